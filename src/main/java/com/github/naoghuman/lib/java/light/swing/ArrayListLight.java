@@ -17,8 +17,16 @@
 package com.github.naoghuman.lib.java.light.swing;
 
 import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Resizable-array implementation of the <code>List</code> interface.  Implements
@@ -43,6 +51,12 @@ import java.util.RandomAccess;
 public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 		RandomAccess {
 	
+	/**
+	 * Arrays with at least this number of elements will be sorted with
+	 * <code>Arrays.parallelSort</code> instead of <code>Arrays.sort</code>.
+	 */
+	static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+	
     /**
      * The array buffer into which the elements of the ArrayList are stored.
      * The capacity of the ArrayList is the length of this array buffer.
@@ -53,6 +67,14 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
      * The size of the ArrayList (the number of elements it contains).
      */
     private int size = 0;
+
+    /**
+     * The optional hash index for <code>indexOf(Object)</code>, or
+     * <code>null</code> if it isn't built yet or must be rebuilt.
+     */
+    private HashIndex hashIndex = null;
+
+    private boolean indexed = Boolean.FALSE;
     
     /**
      * Constructs an empty list with an initial capacity of ten.
@@ -78,6 +100,20 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 	    elementData = (E[])new Object[initialCapacity];
     }
     
+    /**
+     * Constructs a list which uses the specified array as its internal
+     * array. The array isn't copied, so the caller must not use it anymore.
+     *
+     * @param elementData the array with the elements.
+     * @param size the number of elements in the array.
+     */
+    ArrayListLight(final E[] elementData, final int size) {
+
+    	super();
+    	this.elementData = elementData;
+    	this.size = size;
+    }
+
     /**
      * Appends the specified element to the end of this list.
      *
@@ -89,6 +125,7 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
     	
     	this.ensureCapacity(size + 1);
     	elementData[size++] = o;
+    	if (hashIndex != null) { hashIndex.put(o, size - 1, elementData); }
     	
     	return Boolean.TRUE;
     }
@@ -113,12 +150,124 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 					);
 		}
 
+		if (index == size) {
+
+			this.add(element);
+			return;
+		}
+
 		this.ensureCapacity(size + 1);
 		System.arraycopy(elementData, index, elementData, index + 1, size - index);
 		elementData[index] = element;
 		size++;
+		if (hashIndex != null) {
+
+			hashIndex.shift(index, 1);
+			hashIndex.put(element, index, elementData);
+		}
 	}
-    
+
+    /**
+     * Appends all of the elements in the specified array to the end of this
+     * list, in the order they are stored in the array. The capacity grows
+     * at most once and the elements are copied with a single
+     * <code>System.arraycopy</code>.
+     *
+     * @param elements elements to be appended to this list.
+     * @return <code>true</code> if this list changed as a result of the call.
+     */
+    public final boolean addAll(final E[] elements) {
+
+    	return this.addAll(size, elements);
+    }
+
+    /**
+     * Inserts all of the elements in the specified array into this list,
+     * starting at the specified position. Shifts the element currently at
+     * that position (if any) and any subsequent elements to the right
+     * (increases their indices) in one step.
+     *
+     * @param index index at which to insert the first element.
+     * @param elements elements to be inserted into this list.
+     * @return <code>true</code> if this list changed as a result of the call.
+     * @throws IndexOutOfBoundsException if index is out of range
+     *             <code>(index &lt; 0 || index &gt; size())</code>.
+     */
+    public final boolean addAll(final int index, final E[] elements) {
+
+		if (index > size || index < 0) {
+
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size
+					);
+		}
+
+		final int numNew = elements.length;
+		if (numNew == 0) { return Boolean.FALSE; }
+
+		this.ensureCapacity(size + numNew);
+		final int numMoved = size - index;
+		if (numMoved > 0) {
+			System.arraycopy(elementData, index, elementData, index + numNew, numMoved);
+		}
+		System.arraycopy(elements, 0, elementData, index, numNew);
+		size += numNew;
+		if (hashIndex != null) {
+
+			hashIndex.shift(index, numNew);
+			for (int i = index; i < index + numNew; i++) { hashIndex.put(elementData[i], i, elementData); }
+		}
+
+		return Boolean.TRUE;
+	}
+
+    /**
+     * Merges all of the elements in the specified array into this list. Both
+     * this list and the array must be sorted according to the specified
+     * comparator, the list stays sorted after this call. Elements from the
+     * array are inserted behind equal elements from this list.<p>
+     *
+     * The capacity grows at most once and the merge runs from the end of
+     * both sequences in place, so this method runs in linear time
+     * <code>O(size() + elements.length)</code>.
+     *
+     * @param elements the sorted elements to be merged into this list.
+     * @param comparator the comparator by which this list and the array are
+     *        ordered.
+     * @return the ascending indices at which the new elements are stored
+     *         after the merge.
+     */
+    public final int[] addAllSorted(
+    		final E[] elements, final Comparator<? super E> comparator
+    ) {
+		final int numNew = elements.length;
+		final int[] indices = new int[numNew];
+		if (numNew == 0) { return indices; }
+
+		this.ensureCapacity(size + numNew);
+		int i = size - 1;
+		int j = numNew - 1;
+		int w = size + numNew - 1;
+		while (j >= 0) {
+
+			if (i >= 0 && comparator.compare(elementData[i], elements[j]) > 0) {
+				elementData[w--] = elementData[i--];
+			}
+			else {
+				indices[j] = w;
+				elementData[w--] = elements[j--];
+			}
+		}
+		size += numNew;
+		if (hashIndex != null) {
+
+			hashIndex.expand(indices);
+			for (final int index : indices) { hashIndex.put(elementData[index], index, elementData); }
+		}
+
+		return indices;
+	}
+
     /**
      * Removes all of the elements from this list. The list will
      * be empty after this call returns.
@@ -130,6 +279,7 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 
     	for (int i = 0; i < size; i++) { elementData[i] = null; }
     	size = 0;
+    	hashIndex = null;
     }
     
     
@@ -172,6 +322,29 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 		}
 	}
     
+    /**
+     * Performs the given action for each element of this list. The elements
+     * are read directly from the internal array.
+     *
+     * @param action the action to be performed for each element.
+     * @throws ConcurrentModificationException if the list is modified by
+     *         the action.
+     */
+    @Override
+	public final void forEach(final Consumer<? super E> action) {
+
+    	final int expectedModCount = modCount;
+    	final E[] data = elementData;
+    	final int s = size;
+    	for (int i = 0; modCount == expectedModCount && i < s; i++) {
+    		action.accept(data[i]);
+    	}
+
+    	if (modCount != expectedModCount) {
+    		throw new ConcurrentModificationException();
+    	}
+    }
+
     /**
      * Returns the element at the specified position in this list.
      *
@@ -188,6 +361,95 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
     	return elementData[index];
     }
     
+    /**
+     * Returns the index at which the specified element must be inserted to
+     * keep this list in the order of the specified comparator. The list
+     * must already be sorted according to that comparator. If the list
+     * contains elements equal to the specified element, the returned index
+     * is behind the last of them, so that an insertion is <i>stable</i>.<p>
+     *
+     * The index is located with a binary search, so this method runs in
+     * log(n) time.
+     *
+     * @param element the element which should be inserted.
+     * @param comparator the comparator by which this list is ordered.
+     * @return the insertion point <code>(0 &lt;= index &lt;= size())</code>.
+     */
+    public final int getInsertionIndex(
+    		final E element, final Comparator<? super E> comparator
+    ) {
+    	int low = 0;
+    	int high = size;
+    	while (low < high) {
+
+    		final int mid = (low + high) >>> 1;
+    		if (comparator.compare(elementData[mid], element) > 0) {
+    			high = mid;
+    		}
+    		else {
+    			low = mid + 1;
+    		}
+    	}
+
+    	return low;
+    }
+
+    /**
+     * Returns the hash index, if the index is activated. A missing index is
+     * built with one pass over the elements.
+     */
+    private HashIndex getHashIndex() {
+
+    	if (hashIndex == null) {
+
+    		hashIndex = new HashIndex(size);
+    		for (int i = 0; i < size; i++) { hashIndex.put(elementData[i], i, elementData); }
+    	}
+
+    	return hashIndex;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element.<p>
+     *
+     * If the hash index is activated (see {@link #setIndexed(boolean)}) the
+     * element is looked up in <code>O(1)</code> expected time, otherwise
+     * the internal array is scanned.
+     *
+     * @param element element to search for.
+     * @return the index of the first occurrence of the element or -1.
+     */
+    @Override
+	public final int indexOf(final Object element) {
+
+    	if (indexed) { return this.getHashIndex().get(element, elementData); }
+
+    	if (element == null) {
+
+    		for (int i = 0; i < size; i++) {
+    			if (elementData[i] == null) { return i; }
+    		}
+    	}
+    	else {
+
+    		for (int i = 0; i < size; i++) {
+    			if (element.equals(elementData[i])) { return i; }
+    		}
+    	}
+
+    	return -1;
+    }
+
+    /**
+     * Returns <code>true</code> if the hash index for
+     * <code>indexOf(Object)</code> and <code>contains(Object)</code> is
+     * activated.
+     *
+     * @return <code>true</code> if the hash index is activated.
+     */
+    public final boolean isIndexed() { return indexed; }
+
     /**
 	 * Liefert die Kapazität des <code>ArrayListLight</code>. Dies entspricht
 	 * nicht der Anzahl der enthaltenen Elemente, sondern wieviele Elemente
@@ -237,12 +499,17 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
     	
 		modCount++;
 		final E oldValue = elementData[index];
+		final boolean repair = (hashIndex != null) && hashIndex.remove(oldValue, index, elementData);
 		final int numMoved = size - index - 1;
 		if (numMoved > 0) {
-			
 			System.arraycopy(elementData, index + 1, elementData, index, numMoved);
 		}
 		elementData[--size] = null;
+		if (hashIndex != null) {
+
+			hashIndex.shift(index + 1, -1);
+			if (repair) { hashIndex.putNext(oldValue, index, elementData, size); }
+		}
 
 		return oldValue;
 	}
@@ -262,12 +529,121 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 
 		modCount++;
 		
-		final int i = super.indexOf(obj);
+		final int i = this.indexOf(obj);
 		if (i >= 0) { this.remove(i); return Boolean.TRUE; }
 		
 		return Boolean.FALSE;
 	}
 	
+	/**
+	 * Removes all of the elements of this list that satisfy the given
+	 * predicate. First all elements are tested, then the remaining elements
+	 * are compacted in one single pass. If the predicate throws an
+	 * exception, the list isn't modified.
+	 *
+	 * @param filter a predicate which returns <code>true</code> for elements
+	 *        to be removed.
+	 * @return <code>true</code> if any elements were removed.
+	 */
+	@Override
+	public final boolean removeIf(final Predicate<? super E> filter) {
+
+		final int expectedModCount = modCount;
+		final BitSet removeSet = new BitSet(size);
+		int removeCount = 0;
+		for (int i = 0; i < size; i++) {
+
+			if (filter.test(elementData[i])) {
+				removeSet.set(i);
+				removeCount++;
+			}
+		}
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+		if (removeCount == 0) { return Boolean.FALSE; }
+
+		int[] removed = null;
+		boolean repair = Boolean.FALSE;
+		if (hashIndex != null) {
+
+			removed = new int[removeCount];
+			for (int i = removeSet.nextSetBit(0), j = 0; i >= 0; i = removeSet.nextSetBit(i + 1)) {
+				removed[j++] = i;
+			}
+			repair = hashIndex.removeAll(removed, elementData);
+		}
+
+		final int newSize = size - removeCount;
+		for (int i = 0, j = 0; i < size && j < newSize; i++, j++) {
+
+			i = removeSet.nextClearBit(i);
+			elementData[j] = elementData[i];
+		}
+		for (int i = newSize; i < size; i++) { elementData[i] = null; }
+		size = newSize;
+		modCount++;
+		if (hashIndex != null) {
+
+			hashIndex.compact(removed);
+			if (repair) { hashIndex.putAll(removed[0], elementData, size); }
+		}
+
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * Removes the elements at the specified indices from this list. The
+	 * remaining elements are compacted in one single pass, every element is
+	 * moved at most once, so this method runs in linear time no matter how
+	 * many elements are removed.
+	 *
+	 * @param indices the indices of the elements to be removed in strictly
+	 *        ascending order.
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 *         <code>(index &lt; 0 || index &gt;= size())</code>.
+	 * @throws IllegalArgumentException if the indices aren't strictly
+	 *         ascending.
+	 */
+	public final void removeIndices(final int[] indices) {
+
+		final int numRemoved = indices.length;
+		if (numRemoved == 0) { return; }
+
+		if (indices[0] < 0 || indices[numRemoved - 1] >= size) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + ((indices[0] < 0) ? indices[0] : indices[numRemoved - 1])
+		    		+ ", Size: "+ size
+		    		);
+		}
+		for (int i = 1; i < numRemoved; i++) {
+
+			if (indices[i] <= indices[i - 1]) {
+				throw new IllegalArgumentException(
+						"Indices not strictly ascending at position: " + i);
+			}
+		}
+
+		modCount++;
+		final boolean repair = (hashIndex != null) && hashIndex.removeAll(indices, elementData);
+		int w = indices[0];
+		for (int i = 0; i < numRemoved; i++) {
+
+			final int from = indices[i] + 1;
+			final int to = (i + 1 < numRemoved) ? indices[i + 1] : size;
+			System.arraycopy(elementData, from, elementData, w, to - from);
+			w += to - from;
+		}
+		for (int i = w; i < size; i++) { elementData[i] = null; }
+		size = w;
+		if (hashIndex != null) {
+
+			hashIndex.compact(indices);
+			if (repair) { hashIndex.putAll(indices[0], elementData, size); }
+		}
+	}
+
 	/**
      * Replaces the element at the specified position in this list with
      * the specified element.
@@ -283,11 +659,39 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
     	this.rangeCheck(index);
 
 		final E oldValue = elementData[index];
+		final boolean repair = (hashIndex != null) && hashIndex.remove(oldValue, index, elementData);
 		elementData[index] = element;
+		if (hashIndex != null) {
+
+			hashIndex.put(element, index, elementData);
+			if (repair) { hashIndex.putNext(oldValue, index + 1, elementData, size); }
+		}
 		
 		return oldValue;
     }
     
+	/**
+	 * Replaces each element of this list with the result of applying the
+	 * operator to that element. The elements are read and written directly
+	 * in the internal array.
+	 *
+	 * @param operator the operator to apply to each element.
+	 */
+	@Override
+	public final void replaceAll(final UnaryOperator<E> operator) {
+
+		final int expectedModCount = modCount;
+		for (int i = 0; modCount == expectedModCount && i < size; i++) {
+			elementData[i] = operator.apply(elementData[i]);
+		}
+
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+		modCount++;
+		hashIndex = null;
+	}
+
 	/**
      * Replaces the element at the specified position in this list with
      * the specified element.
@@ -303,6 +707,30 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 		
 		return this.replace(index, element);
     }
+
+	/**
+	 * Activates or deactivates a hash index for
+	 * <code>indexOf(Object)</code>, <code>contains(Object)</code> and
+	 * <code>remove(Object)</code>. With the index these methods run in
+	 * <code>O(1)</code> expected time instead of scanning the list, for
+	 * example to reject duplicates before an element is appended.<p>
+	 *
+	 * Appending, inserting, removing and replacing elements update the index
+	 * directly. Inserting or removing elements in front of the end moves
+	 * the stored indices in one pass over the index, without hashing the
+	 * elements again. Only <code>sort</code>, <code>replaceAll</code> and
+	 * <code>clear</code> drop the index, it's rebuilt with the next lookup.
+	 * The index needs one <code>int</code> slot for every element
+	 * plus free space and the elements must not change their
+	 * <code>hashCode()</code> while they are in the list.
+	 *
+	 * @param indexed <code>true</code> to activate the hash index.
+	 */
+	public final void setIndexed(final boolean indexed) {
+
+		this.indexed = indexed;
+		hashIndex = null;
+	}
 	
 	/**
 	 * Returns the current size of <code>ArrayListLight</code>. Deprecated. Use
@@ -312,7 +740,61 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 	@Deprecated
 	@Override
 	public int size() { return size; }
+
+	/**
+	 * Sorts this list according to the order induced by the specified
+	 * comparator. The internal array is sorted in place, no copy of the
+	 * elements is created. Lists with at least
+	 * <code>PARALLEL_SORT_THRESHOLD</code> elements are sorted with
+	 * <code>Arrays.parallelSort</code>. If <code>comparator</code> is
+	 * <code>null</code> the elements are sorted by their
+	 * <i>natural ordering</i>.
+	 *
+	 * @param comparator the comparator or <code>null</code>.
+	 */
+	@Override
+	public final void sort(final Comparator<? super E> comparator) {
+
+		final int expectedModCount = modCount;
+		ArrayListLight.sort(elementData, 0, size, comparator);
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+		modCount++;
+		hashIndex = null;
+	}
+
+	/**
+	 * Creates a <i>late-binding</i> and <i>fail-fast</i>
+	 * <code>Spliterator</code> over the elements in this list. The
+	 * spliterator reports <code>SIZED</code>, <code>SUBSIZED</code> and
+	 * <code>ORDERED</code> and splits the index range in equal halves, so
+	 * <code>parallelStream()</code> distributes the work evenly.
+	 *
+	 * @return a spliterator over the elements in this list.
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+
+		return new ArrayListLightSpliterator<E>(this, 0, -1, 0);
+	}
 	
+	/**
+	 * Returns an array containing all of the elements in this list in the
+	 * correct order. The array is copied with one single
+	 * <code>System.arraycopy</code>.
+	 *
+	 * @return an array containing the elements of the list.
+	 */
+	@Override
+	public Object[] toArray() {
+
+		final Object[] array = new Object[size];
+		System.arraycopy(elementData, 0, array, 0, size);
+
+		return array;
+	}
+
     /**
      * Returns an array containing all of the elements in this list in the
      * correct order; the runtime type of the returned array is that of the
@@ -350,6 +832,24 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 		return array;
 	}
 	
+    /**
+     * Sorts the specified range of the array according to the order induced
+     * by the specified comparator. Ranges with at least
+     * <code>PARALLEL_SORT_THRESHOLD</code> elements are sorted in parallel.
+     * Both sort algorithms are <i>stable</i>.
+     */
+    static <T> void sort(
+    		final T[] a, final int fromIndex, final int toIndex,
+    		final Comparator<? super T> comparator
+    ) {
+    	if (toIndex - fromIndex >= PARALLEL_SORT_THRESHOLD) {
+    		Arrays.parallelSort(a, fromIndex, toIndex, comparator);
+    	}
+    	else {
+    		Arrays.sort(a, fromIndex, toIndex, comparator);
+    	}
+    }
+	
     /**
 	 * Trims the capacity of this <code>ArrayListLight</code> instance to be the
 	 * list's current size. An application can use this operation to minimize
@@ -368,4 +868,332 @@ public class ArrayListLight<E> extends AbstractList<E> implements List<E>,
 			System.arraycopy(oldData, 0, elementData, 0, size);
 		}
 	}
+
+	/**
+	 * Index-based spliterator over the internal array. The fence (the end
+	 * of the range) is bound with the first use, so changes before the
+	 * traversal are visible.
+	 */
+	static final class ArrayListLightSpliterator<E> implements Spliterator<E> {
+
+		private final ArrayListLight<E> list;
+		private int index;
+		private int fence;
+		private int expectedModCount;
+
+		ArrayListLightSpliterator(
+				final ArrayListLight<E> list, final int origin,
+				final int fence, final int expectedModCount
+		) {
+			this.list = list;
+			this.index = origin;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		private int getFence() {
+
+			if (fence < 0) {
+				expectedModCount = list.modCount;
+				fence = list.size;
+			}
+
+			return fence;
+		}
+
+		@Override
+		public int characteristics() {
+
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+		@Override
+		public long estimateSize() { return this.getFence() - index; }
+
+		@Override
+		public void forEachRemaining(final Consumer<? super E> action) {
+
+			final int hi = this.getFence();
+			final E[] data = list.elementData;
+			for (int i = index; i < hi; i++) { action.accept(data[i]); }
+			index = hi;
+
+			if (list.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super E> action) {
+
+			final int hi = this.getFence();
+			if (index >= hi) { return Boolean.FALSE; }
+
+			action.accept(list.elementData[index++]);
+			if (list.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+
+			return Boolean.TRUE;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+
+			final int hi = this.getFence();
+			final int lo = index;
+			final int mid = (lo + hi) >>> 1;
+			if (lo >= mid) { return null; }
+
+			index = mid;
+
+			return new ArrayListLightSpliterator<E>(list, lo, mid, expectedModCount);
+		}
+	}
+
+	/**
+	 * Open addressing hash table with linear probing, which maps an element
+	 * to the lowest index where it is stored in the list. The table only
+	 * contains the indices (plus one, zero marks a free slot), the elements
+	 * are compared with the internal array of the list.<p>
+	 *
+	 * If elements are inserted or removed in front of the end, the stored
+	 * indices are moved in one pass over the table. The elements aren't
+	 * hashed again, because every element keeps its slot.
+	 */
+	private static final class HashIndex {
+
+		private int[] table = null;
+		private int count = 0;
+
+		/**
+		 * <code>true</code> if an element was put, which was already mapped.
+		 * Only then a removed first occurrence can have a following one.
+		 */
+		private boolean duplicates = Boolean.FALSE;
+
+		private HashIndex(final int expectedSize) {
+
+			int length = 16;
+			while (length < expectedSize * 2 && length < (1 << 30)) { length <<= 1; }
+			table = new int[length];
+		}
+
+		/**
+		 * Moves the indices after the removed indices (ascending) down by
+		 * the number of removed indices in front of them. The entries of
+		 * the removed elements must be removed before.
+		 */
+		private void compact(final int[] removed) {
+
+			final int first = removed[0] + 1;
+			for (int i = 0; i < table.length; i++) {
+
+				final int entry = table[i];
+				if (entry > first) {
+
+					final int position = Arrays.binarySearch(removed, entry - 1);
+					table[i] = entry + position + 1;
+				}
+			}
+		}
+
+		/**
+		 * Moves the indices of the elements, which were in the list before
+		 * the merge, up by the number of inserted indices (ascending) in
+		 * front of them.
+		 */
+		private void expand(final int[] inserted) {
+
+			for (int i = 0; i < table.length; i++) {
+
+				final int entry = table[i];
+				if (entry == 0) { continue; }
+
+				// Old elements in front of inserted[j] are: inserted[j] - j.
+				final int oldIndex = entry - 1;
+				int low = 0;
+				int high = inserted.length;
+				while (low < high) {
+
+					final int mid = (low + high) >>> 1;
+					if (inserted[mid] - mid <= oldIndex) { low = mid + 1; }
+					else { high = mid; }
+				}
+				table[i] = entry + low;
+			}
+		}
+
+		private static int hash(final Object element) {
+
+			if (element == null) { return 0; }
+
+			final int h = element.hashCode() * 0x9E3779B9;
+
+			return h ^ (h >>> 16);
+		}
+
+		private static boolean isSame(final Object o1, final Object o2) {
+
+			return o1 == o2 || (o1 != null && o1.equals(o2));
+		}
+
+		/**
+		 * Returns the index of the first occurrence or -1.
+		 */
+		private int get(final Object element, final Object[] data) {
+
+			return table[this.slot(element, data)] - 1;
+		}
+
+		/**
+		 * Maps the element, which is stored at <code>index</code>, to this
+		 * index if it isn't mapped yet to a lower index.
+		 */
+		private void put(final Object element, final int index, final Object[] data) {
+
+			final int slot = this.slot(element, data);
+			if (table[slot] == 0) {
+
+				table[slot] = index + 1;
+				if (++count * 2 > table.length) { this.resize(data); }
+				return;
+			}
+
+			duplicates = Boolean.TRUE;
+			if (index + 1 < table[slot]) {
+				table[slot] = index + 1;
+			}
+		}
+
+		/**
+		 * Puts all elements in <code>[from, size)</code>, so the following
+		 * occurrences of removed elements are mapped again.
+		 */
+		private void putAll(final int from, final Object[] data, final int size) {
+
+			for (int i = from; i < size; i++) { this.put(data[i], i, data); }
+		}
+
+		/**
+		 * Maps the element to its first occurrence in <code>[from, size)</code>,
+		 * if there is one.
+		 */
+		private void putNext(
+				final Object element, final int from, final Object[] data, final int size
+		) {
+			for (int i = from; i < size; i++) {
+
+				if (isSame(element, data[i])) {
+
+					this.put(element, i, data);
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Removes the entry of the element at <code>index</code>, if the
+		 * element is mapped to this index. Returns <code>true</code> if a
+		 * following occurrence may exist, which must be put afterwards.
+		 */
+		private boolean remove(final Object element, final int index, final Object[] data) {
+
+			if (this.get(element, data) != index) { return Boolean.FALSE; }
+
+			this.remove(element, data);
+
+			return duplicates;
+		}
+
+		/**
+		 * Removes the entries of the elements at the indices (ascending)
+		 * before they are removed from the list. Returns <code>true</code>
+		 * if following occurrences may exist.
+		 */
+		private boolean removeAll(final int[] indices, final Object[] data) {
+
+			boolean repair = Boolean.FALSE;
+			for (final int index : indices) {
+				repair |= this.remove(data[index], index, data);
+			}
+
+			return repair;
+		}
+
+		/**
+		 * Removes the element and moves the following entries from the probe
+		 * sequence back, so no lookup stops at the freed slot.
+		 */
+		private void remove(final Object element, final Object[] data) {
+
+			int free = this.slot(element, data);
+			if (table[free] == 0) { return; }
+
+			table[free] = 0;
+			count--;
+
+			final int mask = table.length - 1;
+			int i = free;
+			while (table[i = (i + 1) & mask] != 0) {
+
+				final int home = hash(data[table[i] - 1]) & mask;
+				final boolean reachable = (free <= i)
+						? (free < home && home <= i)
+						: (free < home || home <= i);
+				if (!reachable) {
+
+					table[free] = table[i];
+					table[i] = 0;
+					free = i;
+				}
+			}
+		}
+
+		private void resize(final Object[] data) {
+
+			final int[] oldTable = table;
+			table = new int[oldTable.length * 2];
+
+			final int mask = table.length - 1;
+			for (final int entry : oldTable) {
+
+				if (entry == 0) { continue; }
+
+				int i = hash(data[entry - 1]) & mask;
+				while (table[i] != 0) { i = (i + 1) & mask; }
+				table[i] = entry;
+			}
+		}
+
+		/**
+		 * Moves the indices at or after <code>from</code> by
+		 * <code>delta</code>.
+		 */
+		private void shift(final int from, final int delta) {
+
+			// Without a branch: the stored indices are in random order.
+			final int[] t = table;
+			for (int i = 0; i < t.length; i++) {
+
+				final int entry = t[i];
+				t[i] = entry + (((from - entry) >> 31) & delta);
+			}
+		}
+
+		/**
+		 * Returns the slot which maps the element or the free slot where
+		 * the element would be stored.
+		 */
+		private int slot(final Object element, final Object[] data) {
+
+			final int mask = table.length - 1;
+			int i = hash(element) & mask;
+			while (table[i] != 0 && !isSame(element, data[table[i] - 1])) {
+				i = (i + 1) & mask;
+			}
+
+			return i;
+		}
+	}
 }
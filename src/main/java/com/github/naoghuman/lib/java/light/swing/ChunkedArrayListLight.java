@@ -0,0 +1,383 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Chunked implementation of the <code>List</code> interface (a so called
+ * <i>tiered vector</i>) with the same public methods like
+ * <code>ArrayListLight</code>.<p>
+ *
+ * The elements are stored in chunks with a fixed size. Every chunk is a
+ * small ring buffer, all chunks except the last one are full. So:
+ * <ul>
+ * <li>the list grows by allocating a new chunk, the existing elements are
+ * only copied when the chunk size doubles,</li>
+ * <li>an insert or remove in the middle only shifts the elements in one
+ * chunk and moves one element from or to every following chunk.</li>
+ * </ul>
+ * The chunk size grows with the list (it doubles when there are more than
+ * twice as many chunks as elements per chunk), so it stays about
+ * <code>sqrt(size)</code> and <code>add(int, E)</code> and
+ * <code>remove(int)</code> run in <code>O(sqrt(n))</code> time.
+ * <code>get(int)</code> stays constant time, but is a little bit slower
+ * than in <code>ArrayListLight</code>.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ArrayListLight
+ */
+public class ChunkedArrayListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess {
+
+	/**
+	 * The smallest chunk size is <code>1 &lt;&lt; MIN_SHIFT</code>.
+	 */
+	private static final int MIN_SHIFT = 5;
+
+	/**
+	 * The largest chunk size is <code>1 &lt;&lt; MAX_SHIFT</code>.
+	 */
+	private static final int MAX_SHIFT = 16;
+
+	/**
+	 * The chunks in which the elements are stored. Only the first
+	 * <code>chunkCount</code> entries are allocated.
+	 */
+	private Object[][] chunks = null;
+
+	/**
+	 * The physical index from the first element in every chunk.
+	 */
+	private int[] heads = null;
+
+	private int chunkCount = 0;
+	private int shift = MIN_SHIFT;
+	private int mask = (1 << MIN_SHIFT) - 1;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+	private int size = 0;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+	public ChunkedArrayListLight() { this(10); }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list.
+     * @exception IllegalArgumentException if the specified initial capacity
+     *            is negative.
+     */
+	public ChunkedArrayListLight(final int initialCapacity) {
+
+		super();
+	    if (initialCapacity < 0) {
+	    	throw new IllegalArgumentException(
+	    			"Illegal Capacity: " + initialCapacity);
+	    }
+
+	    chunks = new Object[4][];
+	    heads = new int[4];
+	    this.ensureCapacity(initialCapacity);
+	}
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param o element to be appended to this list.
+     * @return <code>true</code> (as per the general contract of Collection.add()).
+     */
+	@Override
+	public final boolean add(final E o) {
+
+		this.ensureCapacity(size + 1);
+		final int c = size >>> shift;
+		chunks[c][(heads[c] + size) & mask] = o;
+		size++;
+
+		return Boolean.TRUE;
+	}
+
+    /**
+	 * Inserts the specified element at the specified position in this list.
+	 * Shifts the element currently at that position (if any) and any subsequent
+	 * elements to the right (adds one to their indices). Only the elements in
+	 * the chunk from <code>index</code> are shifted, every following chunk
+	 * gets the last element from its predecessor.
+	 *
+	 * @param index index at which the specified element is to be inserted.
+	 * @param element element to be inserted.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	@Override
+	public final void add(final int index, final E element) {
+
+		if (index > size || index < 0) {
+
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size
+					);
+		}
+
+		this.ensureCapacity(size + 1);
+		final int c = index >>> shift;
+		final int lastChunk = size >>> shift;
+		for (int j = lastChunk; j > c; j--) {
+
+			final int last = (heads[j - 1] + mask) & mask;
+			heads[j] = (heads[j] - 1) & mask;
+			chunks[j][heads[j]] = chunks[j - 1][last];
+		}
+
+		final Object[] chunk = chunks[c];
+		final int head = heads[c];
+		final int count = (c < lastChunk) ? mask : size - (c << shift);
+		for (int k = count - 1, o = index & mask; k >= o; k--) {
+			chunk[(head + k + 1) & mask] = chunk[(head + k) & mask];
+		}
+		chunk[(head + index) & mask] = element;
+		size++;
+	}
+
+    /**
+     * Appends all of the elements in the specified array to the end of this
+     * list, in the order they are stored in the array.
+     *
+     * @param elements elements to be appended to this list.
+     * @return <code>true</code> if this list changed as a result of the call.
+     */
+	public final boolean addAll(final E[] elements) {
+
+		this.ensureCapacity(size + elements.length);
+		for (final E element : elements) { this.add(element); }
+
+		return elements.length > 0;
+	}
+
+    /**
+     * Removes all of the elements from this list. The list will
+     * be empty after this call returns. The chunks are kept, use
+     * <code>trimToSize()</code> to release them.
+     */
+	@Override
+	public void clear() {
+
+		modCount++;
+		final int used = (size + mask) >>> shift;
+		for (int c = 0; c < used; c++) {
+
+			Arrays.fill(chunks[c], null);
+			heads[c] = 0;
+		}
+		size = 0;
+	}
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument. New chunks are allocated, the existing elements
+     * are only copied if the chunk size grows.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+	public final void ensureCapacity(final int minCapacity) {
+
+		modCount++;
+		int newShift = shift;
+		while (newShift < MAX_SHIFT && ((long) minCapacity >>> newShift) > (2L << newShift)) {
+			newShift++;
+		}
+		if (newShift != shift) { this.rechunk(newShift); }
+
+		while (((long) chunkCount << shift) < minCapacity) {
+
+			if (chunkCount == chunks.length) {
+
+				chunks = Arrays.copyOf(chunks, Math.max(4, chunkCount * 2));
+				heads = Arrays.copyOf(heads, chunks.length);
+			}
+
+			chunks[chunkCount] = new Object[mask + 1];
+			heads[chunkCount] = 0;
+			chunkCount++;
+		}
+	}
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final E get(final int index) {
+
+		this.rangeCheck(index);
+		final int c = index >>> shift;
+
+		return (E) chunks[c][(heads[c] + index) & mask];
+	}
+
+	/**
+	 * Returns the capacity of this list. This is the number of elements
+	 * which fits into the allocated chunks.
+	 *
+	 * @return the capacity of this list.
+	 */
+	public int getLength() { return chunkCount << shift; }
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return the number of elements.
+	 */
+	public int getSize() { return size; }
+
+    /**
+     * Check if the given index is in range. If not, throw an appropriate
+     * runtime exception.
+     */
+	private void rangeCheck(final int index) {
+
+		if (index >= size || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ size
+		    		);
+		}
+	}
+
+	/**
+	 * Copies all elements into chunks with the size
+	 * <code>1 &lt;&lt; newShift</code>.
+	 */
+	private void rechunk(final int newShift) {
+
+		final int newMask = (1 << newShift) - 1;
+		final int newCount = Math.max(1, (size + newMask) >>> newShift);
+		final Object[][] newChunks = new Object[Math.max(4, newCount)][];
+		for (int c = 0; c < newCount; c++) { newChunks[c] = new Object[newMask + 1]; }
+
+		for (int i = 0; i < size; i++) {
+
+			final int c = i >>> shift;
+			newChunks[i >>> newShift][i & newMask] = chunks[c][(heads[c] + i) & mask];
+		}
+
+		chunks = newChunks;
+		heads = new int[newChunks.length];
+		chunkCount = newCount;
+		shift = newShift;
+		mask = newMask;
+	}
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their
+     * indices). Only the elements in the chunk from <code>index</code> are
+     * shifted, every following chunk gives its first element to its
+     * predecessor.
+     *
+     * @param index the index of the element to removed.
+     * @return the element that was removed from the list.
+     * @throws  IndexOutOfBoundsException if index out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	public final E remove(final int index) {
+
+		final E oldValue = this.get(index);
+
+		modCount++;
+		final int c = index >>> shift;
+		final int lastChunk = (size - 1) >>> shift;
+		final Object[] chunk = chunks[c];
+		final int head = heads[c];
+		final int count = (c < lastChunk) ? mask + 1 : size - (c << shift);
+		for (int k = index & mask; k < count - 1; k++) {
+			chunk[(head + k) & mask] = chunk[(head + k + 1) & mask];
+		}
+
+		if (c == lastChunk) {
+			chunk[(head + count - 1) & mask] = null;
+		}
+		for (int j = c + 1; j <= lastChunk; j++) {
+
+			chunks[j - 1][(heads[j - 1] + mask) & mask] = chunks[j][heads[j]];
+			chunks[j][heads[j]] = null;
+			heads[j] = (heads[j] + 1) & mask;
+		}
+		size--;
+
+		return oldValue;
+	}
+
+	/**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index out of range
+     *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+     */
+	public final E replace(final int index, final E element) {
+
+		final E oldValue = this.get(index);
+		final int c = index >>> shift;
+		chunks[c][(heads[c] + index) & mask] = element;
+
+		return oldValue;
+	}
+
+	@Override
+	public final E set(final int index, final E element) {
+
+		return this.replace(index, element);
+	}
+
+	@Override
+	public int size() { return size; }
+
+    /**
+	 * Trims the capacity of this list to the chunks which are needed for the
+	 * current size. The unused chunks are released, the elements aren't
+	 * copied.
+	 */
+	public void trimToSize() {
+
+		modCount++;
+		final int used = (size + mask) >>> shift;
+		while (chunkCount > used) { chunks[--chunkCount] = null; }
+
+		chunks = Arrays.copyOf(chunks, Math.max(1, chunkCount));
+		heads = Arrays.copyOf(heads, chunks.length);
+	}
+}
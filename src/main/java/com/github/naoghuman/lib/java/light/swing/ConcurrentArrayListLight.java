@@ -0,0 +1,683 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of the <code>List</code> interface with the
+ * same public methods like <code>ArrayListLight</code>.<p>
+ *
+ * Readers never lock: <code>get(int)</code>, <code>size()</code> and the
+ * iteration read one volatile snapshot, which consists of the array and
+ * the size. Writers are serialized with a lock and publish a new snapshot
+ * after every change:
+ * <ul>
+ * <li>Appending writes behind the size of the current snapshot into the
+ * same array (it is copied only if the capacity is reached) and then
+ * publishes the new size. Older snapshots don't see the new elements.</li>
+ * <li>All other changes (insert, remove, replace) copy the array, so no
+ * published snapshot is ever modified.</li>
+ * </ul>
+ * So background threads can append while the event dispatch thread reads
+ * the list. All reading methods (search, iterators, sub lists,
+ * <code>equals</code> and <code>hashCode</code>) work on the snapshot from
+ * the time of the call and never throw a
+ * <code>ConcurrentModificationException</code>. The list iterators and sub
+ * lists are read-only, elements are removed with the methods of the list
+ * itself. For a consistent view over several calls use
+ * {@link #toArray()}.<p>
+ *
+ * The writers share one lock and don't append with CAS or striped locks:
+ * every append must publish the new size after all elements in front of it
+ * are written, so the appends of several threads can't run in parallel
+ * anyway. The lock is only held to write the slots and publish the
+ * snapshot.<p>
+ *
+ * Note: a <code>ListModelLight</code> must still fire its events on the
+ * event dispatch thread.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ArrayListLight
+ */
+public class ConcurrentArrayListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess {
+
+	/**
+	 * An immutable view of the list: the elements in
+	 * <code>[0, size)</code> from <code>elementData</code> are never
+	 * changed after the snapshot was published.
+	 */
+	private static final class Snapshot {
+
+		private final Object[] elementData;
+		private final int size;
+
+		private Snapshot(final Object[] elementData, final int size) {
+
+			this.elementData = elementData;
+			this.size = size;
+		}
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private volatile Snapshot snapshot = null;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+	public ConcurrentArrayListLight() { this(10); }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list.
+     * @exception IllegalArgumentException if the specified initial capacity
+     *            is negative.
+     */
+	public ConcurrentArrayListLight(final int initialCapacity) {
+
+		super();
+	    if (initialCapacity < 0) {
+	    	throw new IllegalArgumentException(
+	    			"Illegal Capacity: " + initialCapacity);
+	    }
+
+	    snapshot = new Snapshot(new Object[initialCapacity], 0);
+	}
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param o element to be appended to this list.
+     * @return <code>true</code> (as per the general contract of Collection.add()).
+     */
+	@Override
+	public final boolean add(final E o) {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final Object[] data = this.grow(s, s.size + 1);
+			data[s.size] = o;
+			snapshot = new Snapshot(data, s.size + 1);
+		} finally {
+			lock.unlock();
+		}
+
+		return Boolean.TRUE;
+	}
+
+    /**
+	 * Inserts the specified element at the specified position in this list.
+	 * The array is copied, so readers never see a partly shifted list.
+	 *
+	 * @param index index at which the specified element is to be inserted.
+	 * @param element element to be inserted.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	@Override
+	public final void add(final int index, final E element) {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			if (index > s.size || index < 0) {
+
+				throw new IndexOutOfBoundsException(
+						"Index: " + index + ", Size: " + s.size
+						);
+			}
+
+			final Object[] data = new Object[Math.max(s.elementData.length, s.size + 1)];
+			System.arraycopy(s.elementData, 0, data, 0, index);
+			System.arraycopy(s.elementData, index, data, index + 1, s.size - index);
+			data[index] = element;
+			modCount++;
+			snapshot = new Snapshot(data, s.size + 1);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+    /**
+     * Appends all of the elements in the specified array to the end of this
+     * list. The new elements are published together, readers see either
+     * none or all of them.
+     *
+     * @param elements elements to be appended to this list.
+     * @return <code>true</code> if this list changed as a result of the call.
+     */
+	public final boolean addAll(final E[] elements) {
+
+		if (elements.length == 0) { return Boolean.FALSE; }
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final Object[] data = this.grow(s, s.size + elements.length);
+			System.arraycopy(elements, 0, data, s.size, elements.length);
+			snapshot = new Snapshot(data, s.size + elements.length);
+		} finally {
+			lock.unlock();
+		}
+
+		return Boolean.TRUE;
+	}
+
+    /**
+     * Removes all of the elements from this list. The list will
+     * be empty after this call returns.
+     */
+	@Override
+	public void clear() {
+
+		lock.lock();
+		try {
+			modCount++;
+			snapshot = new Snapshot(new Object[snapshot.elementData.length], 0);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(final Object o) { return this.view().indexOf(o) >= 0; }
+
+	@Override
+	public boolean containsAll(final Collection<?> c) { return this.view().containsAll(c); }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+	public final void ensureCapacity(final int minCapacity) {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final Object[] data = this.grow(s, minCapacity);
+			if (data != s.elementData) { snapshot = new Snapshot(data, s.size); }
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Compares the specified object with one snapshot of this list.
+	 *
+	 * @param o the object to be compared for equality with this list.
+	 * @return <code>true</code> if the specified object is equal to this
+	 *         list.
+	 */
+	@Override
+	public boolean equals(final Object o) { return (o == this) || this.view().equals(o); }
+
+    /**
+     * Returns the element at the specified position in this list. This
+     * method doesn't lock.
+     *
+     * @param  index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final E get(final int index) {
+
+		final Snapshot s = snapshot;
+		if (index >= s.size || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ s.size
+		    		);
+		}
+
+		return (E) s.elementData[index];
+	}
+
+	/**
+	 * Returns the capacity of this list.
+	 *
+	 * @return the capacity of this list.
+	 */
+	public int getLength() { return snapshot.elementData.length; }
+
+	/**
+	 * Returns the number of elements in this list. This method doesn't lock.
+	 *
+	 * @return the number of elements.
+	 */
+	public int getSize() { return snapshot.size; }
+
+	/**
+	 * Returns the array from the snapshot, or a greater copy if its capacity
+	 * is smaller than <code>minCapacity</code>. Must be called with the lock.
+	 */
+	private Object[] grow(final Snapshot s, final int minCapacity) {
+
+		final int oldCapacity = s.elementData.length;
+		if (minCapacity <= oldCapacity) { return s.elementData; }
+
+		int newCapacity = oldCapacity * 3 / 2 + 1;
+		if (newCapacity < minCapacity) {
+			newCapacity = minCapacity;
+		}
+
+		return Arrays.copyOf(s.elementData, newCapacity);
+	}
+
+	@Override
+	public int hashCode() { return this.view().hashCode(); }
+
+	@Override
+	public int indexOf(final Object o) { return this.view().indexOf(o); }
+
+	/**
+	 * Returns an iterator over the snapshot of this list from the time of
+	 * the call. Changes after that aren't visible to the iterator.
+	 *
+	 * @return an iterator over the elements in this list.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+
+		final Snapshot s = snapshot;
+
+		return new Iterator<E>() {
+
+			private int cursor = 0;
+
+			@Override
+			public boolean hasNext() { return cursor < s.size; }
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+
+				if (cursor >= s.size) { throw new NoSuchElementException(); }
+
+				return (E) s.elementData[cursor++];
+			}
+		};
+	}
+
+	@Override
+	public int lastIndexOf(final Object o) { return this.view().lastIndexOf(o); }
+
+	/**
+	 * Returns a list iterator over the snapshot of this list from the time
+	 * of the call. The iterator doesn't support <code>add</code>,
+	 * <code>remove</code> and <code>set</code>.
+	 *
+	 * @return a list iterator over the elements in this list.
+	 */
+	@Override
+	public ListIterator<E> listIterator() { return this.view().listIterator(); }
+
+	/**
+	 * Returns a list iterator over the snapshot of this list from the time
+	 * of the call, starting at the specified position. The iterator doesn't
+	 * support <code>add</code>, <code>remove</code> and <code>set</code>.
+	 *
+	 * @param index index of the first element to be returned by
+	 *        <code>next()</code>.
+	 * @return a list iterator over the elements in this list.
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	@Override
+	public ListIterator<E> listIterator(final int index) { return this.view().listIterator(index); }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * The array is copied, so readers never see a partly shifted list.
+     *
+     * @param index the index of the element to removed.
+     * @return the element that was removed from the list.
+     * @throws  IndexOutOfBoundsException if index out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	public final E remove(final int index) {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final E oldValue = this.get(index);
+			final Object[] data = new Object[s.elementData.length];
+			System.arraycopy(s.elementData, 0, data, 0, index);
+			System.arraycopy(s.elementData, index + 1, data, index, s.size - index - 1);
+			modCount++;
+			snapshot = new Snapshot(data, s.size - 1);
+
+			return oldValue;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element from this list.
+	 * The array is copied once.
+	 *
+	 * @param o the element to be removed.
+	 * @return <code>true</code> if this list contained the element.
+	 */
+	@Override
+	public final boolean remove(final Object o) {
+
+		lock.lock();
+		try {
+			final int index = this.indexOf(o);
+			if (index < 0) { return Boolean.FALSE; }
+
+			this.remove(index);
+
+			return Boolean.TRUE;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all elements of this list which are contained in the
+	 * specified collection, with one copy of the array.
+	 *
+	 * @param c the elements to be removed.
+	 * @return <code>true</code> if any elements were removed.
+	 */
+	@Override
+	public final boolean removeAll(final Collection<?> c) {
+
+		Objects.requireNonNull(c);
+
+		return this.removeIf(new Predicate<E>() {
+
+			@Override
+			public boolean test(final E element) { return c.contains(element); }
+		});
+	}
+
+	/**
+	 * Removes all elements of this list which satisfy the predicate. First
+	 * all elements of the current snapshot are tested, then the remaining
+	 * ones are copied into a new array which is published once. If the
+	 * predicate throws an exception, the list isn't modified.
+	 *
+	 * @param filter a predicate which returns <code>true</code> for elements
+	 *        to be removed.
+	 * @return <code>true</code> if any elements were removed.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final boolean removeIf(final Predicate<? super E> filter) {
+
+		Objects.requireNonNull(filter);
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final Object[] data = new Object[s.elementData.length];
+			int w = 0;
+			for (int i = 0; i < s.size; i++) {
+				if (!filter.test((E) s.elementData[i])) { data[w++] = s.elementData[i]; }
+			}
+			if (w == s.size) { return Boolean.FALSE; }
+
+			modCount++;
+			snapshot = new Snapshot(data, w);
+
+			return Boolean.TRUE;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the elements at the specified indices from this list with one
+	 * copy of the array, so readers see either none or all removals.
+	 *
+	 * @param indices the indices of the elements to be removed in strictly
+	 *        ascending order.
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 *         <code>(index &lt; 0 || index &gt;= size())</code>.
+	 * @throws IllegalArgumentException if the indices aren't strictly
+	 *         ascending.
+	 */
+	public final void removeIndices(final int[] indices) {
+
+		final int numRemoved = indices.length;
+		if (numRemoved == 0) { return; }
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			if (indices[0] < 0 || indices[numRemoved - 1] >= s.size) {
+
+			    throw new IndexOutOfBoundsException(
+			    		"Index: " + ((indices[0] < 0) ? indices[0] : indices[numRemoved - 1])
+			    		+ ", Size: "+ s.size
+			    		);
+			}
+			for (int i = 1; i < numRemoved; i++) {
+
+				if (indices[i] <= indices[i - 1]) {
+					throw new IllegalArgumentException(
+							"Indices not strictly ascending at position: " + i);
+				}
+			}
+
+			final Object[] data = new Object[s.elementData.length];
+			System.arraycopy(s.elementData, 0, data, 0, indices[0]);
+			int w = indices[0];
+			for (int i = 0; i < numRemoved; i++) {
+
+				final int from = indices[i] + 1;
+				final int to = (i + 1 < numRemoved) ? indices[i + 1] : s.size;
+				System.arraycopy(s.elementData, from, data, w, to - from);
+				w += to - from;
+			}
+			modCount++;
+			snapshot = new Snapshot(data, w);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+     * Replaces the element at the specified position in this list with
+     * the specified element. The array is copied.
+     *
+     * @param index index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index out of range
+     *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+     */
+	public final E replace(final int index, final E element) {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final E oldValue = this.get(index);
+			final Object[] data = s.elementData.clone();
+			data[index] = element;
+			snapshot = new Snapshot(data, s.size);
+
+			return oldValue;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Replaces each element of this list with the result of applying the
+	 * operator to that element. The results are published together with one
+	 * copy of the array.
+	 *
+	 * @param operator the operator to apply to each element.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void replaceAll(final UnaryOperator<E> operator) {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final Object[] data = new Object[s.elementData.length];
+			for (int i = 0; i < s.size; i++) { data[i] = operator.apply((E) s.elementData[i]); }
+			modCount++;
+			snapshot = new Snapshot(data, s.size);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all elements of this list which aren't contained in the
+	 * specified collection, with one copy of the array.
+	 *
+	 * @param c the elements to be retained.
+	 * @return <code>true</code> if any elements were removed.
+	 */
+	@Override
+	public final boolean retainAll(final Collection<?> c) {
+
+		Objects.requireNonNull(c);
+
+		return this.removeIf(new Predicate<E>() {
+
+			@Override
+			public boolean test(final E element) { return !c.contains(element); }
+		});
+	}
+
+	@Override
+	public final E set(final int index, final E element) {
+
+		return this.replace(index, element);
+	}
+
+	@Override
+	public int size() { return snapshot.size; }
+
+	/**
+	 * Sorts this list according to the order induced by the specified
+	 * comparator. A copy of the array is sorted and then published, so
+	 * readers never see a partly sorted list.
+	 *
+	 * @param comparator the comparator or <code>null</code> for the
+	 *        <i>natural ordering</i>.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void sort(final Comparator<? super E> comparator) {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			final Object[] data = new Object[s.elementData.length];
+			System.arraycopy(s.elementData, 0, data, 0, s.size);
+			ArrayListLight.sort((E[]) data, 0, s.size, comparator);
+			modCount++;
+			snapshot = new Snapshot(data, s.size);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Spliterator<E> spliterator() { return this.view().spliterator(); }
+
+	/**
+	 * Returns a read-only view of the specified range of the snapshot of
+	 * this list from the time of the call. Later changes of this list aren't
+	 * visible in the view.
+	 *
+	 * @param fromIndex low endpoint (inclusive) of the sub list.
+	 * @param toIndex high endpoint (exclusive) of the sub list.
+	 * @return a view of the specified range within this list.
+	 * @throws IndexOutOfBoundsException if an endpoint is out of range.
+	 * @throws IllegalArgumentException if the endpoints are out of order.
+	 */
+	@Override
+	public List<E> subList(final int fromIndex, final int toIndex) {
+
+		return this.view().subList(fromIndex, toIndex);
+	}
+
+	/**
+	 * Returns an array with all elements from one consistent snapshot of
+	 * this list.
+	 *
+	 * @return an array containing the elements of the list.
+	 */
+	@Override
+	public Object[] toArray() {
+
+		final Snapshot s = snapshot;
+
+		return Arrays.copyOf(s.elementData, s.size);
+	}
+
+    /**
+	 * Trims the capacity of this list to be the list's current size.
+	 */
+	public void trimToSize() {
+
+		lock.lock();
+		try {
+			final Snapshot s = snapshot;
+			if (s.size < s.elementData.length) {
+				snapshot = new Snapshot(Arrays.copyOf(s.elementData, s.size), s.size);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a read-only view of the current snapshot.
+	 */
+	private SnapshotListLight<E> view() {
+
+		final Snapshot s = snapshot;
+
+		return new SnapshotListLight<E>(s.elementData, 0, s.size);
+	}
+}
@@ -0,0 +1,606 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of the <code>List</code> interface where every
+ * change publishes a new immutable array (<i>copy on write</i>).<p>
+ *
+ * Readers never lock and never see a change while they read: all reading
+ * methods (search, iterators, sub lists, <code>equals</code> and
+ * <code>hashCode</code>) work on the array from the time of the call and
+ * never throw a <code>ConcurrentModificationException</code>. The list
+ * iterators and sub lists are read-only, elements are removed with the
+ * methods of the list itself. That makes the
+ * list a good choice for configuration-like data, which is read very often
+ * (for example by renderers) and changed seldom.<p>
+ *
+ * Every single change copies the whole array. To apply many changes with
+ * only one copy, use a transaction:
+ * <pre>
+ * list.update(new Consumer&lt;ArrayListLight&lt;String&gt;&gt;() {
+ *     public void accept(ArrayListLight&lt;String&gt; elements) {
+ *         elements.remove(0);
+ *         elements.add("new");
+ *     }
+ * });
+ * </pre>
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ArrayListLight
+ */
+public class CopyOnWriteArrayListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess {
+
+	private static final Object[] EMPTY = new Object[0];
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * The published elements. The array is never modified.
+	 */
+	private volatile Object[] elementData = EMPTY;
+
+    /**
+     * Constructs an empty list.
+     */
+	public CopyOnWriteArrayListLight() { super(); }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param o element to be appended to this list.
+     * @return <code>true</code> (as per the general contract of Collection.add()).
+     */
+	@Override
+	public final boolean add(final E o) {
+
+		lock.lock();
+		try {
+			final Object[] oldData = elementData;
+			final Object[] data = Arrays.copyOf(oldData, oldData.length + 1);
+			data[oldData.length] = o;
+			this.publish(data);
+		} finally {
+			lock.unlock();
+		}
+
+		return Boolean.TRUE;
+	}
+
+    /**
+	 * Inserts the specified element at the specified position in this list.
+	 *
+	 * @param index index at which the specified element is to be inserted.
+	 * @param element element to be inserted.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	@Override
+	public final void add(final int index, final E element) {
+
+		lock.lock();
+		try {
+			final Object[] oldData = elementData;
+			if (index > oldData.length || index < 0) {
+
+				throw new IndexOutOfBoundsException(
+						"Index: " + index + ", Size: " + oldData.length
+						);
+			}
+
+			final Object[] data = new Object[oldData.length + 1];
+			System.arraycopy(oldData, 0, data, 0, index);
+			System.arraycopy(oldData, index, data, index + 1, oldData.length - index);
+			data[index] = element;
+			this.publish(data);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+    /**
+     * Appends all of the elements in the specified array to the end of this
+     * list with one copy.
+     *
+     * @param elements elements to be appended to this list.
+     * @return <code>true</code> if this list changed as a result of the call.
+     */
+	public final boolean addAll(final E[] elements) {
+
+		if (elements.length == 0) { return Boolean.FALSE; }
+
+		lock.lock();
+		try {
+			final Object[] oldData = elementData;
+			final Object[] data = Arrays.copyOf(oldData, oldData.length + elements.length);
+			System.arraycopy(elements, 0, data, oldData.length, elements.length);
+			this.publish(data);
+		} finally {
+			lock.unlock();
+		}
+
+		return Boolean.TRUE;
+	}
+
+    /**
+     * Removes all of the elements from this list. The list will
+     * be empty after this call returns.
+     */
+	@Override
+	public void clear() {
+
+		lock.lock();
+		try {
+			this.publish(EMPTY);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(final Object o) { return this.view().indexOf(o) >= 0; }
+
+	@Override
+	public boolean containsAll(final Collection<?> c) { return this.view().containsAll(c); }
+
+	/**
+	 * Compares the specified object with the current version of this list.
+	 *
+	 * @param o the object to be compared for equality with this list.
+	 * @return <code>true</code> if the specified object is equal to this
+	 *         list.
+	 */
+	@Override
+	public boolean equals(final Object o) { return (o == this) || this.view().equals(o); }
+
+    /**
+     * Returns the element at the specified position in this list. This
+     * method doesn't lock.
+     *
+     * @param  index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final E get(final int index) {
+
+		final Object[] data = elementData;
+		if (index >= data.length || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ data.length
+		    		);
+		}
+
+		return (E) data[index];
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return the number of elements.
+	 */
+	public int getSize() { return elementData.length; }
+
+	@Override
+	public int hashCode() { return this.view().hashCode(); }
+
+	@Override
+	public int indexOf(final Object o) { return this.view().indexOf(o); }
+
+	/**
+	 * Returns an iterator over the elements from the time of the call.
+	 * Changes after that aren't visible to the iterator and the iterator
+	 * doesn't support <code>remove()</code>.
+	 *
+	 * @return an iterator over the elements in this list.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+
+		final Object[] data = elementData;
+
+		return new Iterator<E>() {
+
+			private int cursor = 0;
+
+			@Override
+			public boolean hasNext() { return cursor < data.length; }
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+
+				if (cursor >= data.length) { throw new NoSuchElementException(); }
+
+				return (E) data[cursor++];
+			}
+		};
+	}
+
+	@Override
+	public int lastIndexOf(final Object o) { return this.view().lastIndexOf(o); }
+
+	/**
+	 * Returns a list iterator over the elements from the time of the call.
+	 * The iterator doesn't support <code>add</code>, <code>remove</code>
+	 * and <code>set</code>.
+	 *
+	 * @return a list iterator over the elements in this list.
+	 */
+	@Override
+	public ListIterator<E> listIterator() { return this.view().listIterator(); }
+
+	/**
+	 * Returns a list iterator over the elements from the time of the call,
+	 * starting at the specified position. The iterator doesn't support
+	 * <code>add</code>, <code>remove</code> and <code>set</code>.
+	 *
+	 * @param index index of the first element to be returned by
+	 *        <code>next()</code>.
+	 * @return a list iterator over the elements in this list.
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	@Override
+	public ListIterator<E> listIterator(final int index) { return this.view().listIterator(index); }
+
+	private void publish(final Object[] data) {
+
+		modCount++;
+		elementData = data;
+	}
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to removed.
+     * @return the element that was removed from the list.
+     * @throws  IndexOutOfBoundsException if index out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	public final E remove(final int index) {
+
+		lock.lock();
+		try {
+			final E oldValue = this.get(index);
+			final Object[] oldData = elementData;
+			final Object[] data = new Object[oldData.length - 1];
+			System.arraycopy(oldData, 0, data, 0, index);
+			System.arraycopy(oldData, index + 1, data, index, oldData.length - index - 1);
+			this.publish(data);
+
+			return oldValue;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element from this list.
+	 * The elements are copied once.
+	 *
+	 * @param o the element to be removed.
+	 * @return <code>true</code> if this list contained the element.
+	 */
+	@Override
+	public final boolean remove(final Object o) {
+
+		lock.lock();
+		try {
+			final int index = this.indexOf(o);
+			if (index < 0) { return Boolean.FALSE; }
+
+			this.remove(index);
+
+			return Boolean.TRUE;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all elements of this list which are contained in the
+	 * specified collection, with one copy.
+	 *
+	 * @param c the elements to be removed.
+	 * @return <code>true</code> if any elements were removed.
+	 */
+	@Override
+	public final boolean removeAll(final Collection<?> c) {
+
+		Objects.requireNonNull(c);
+
+		return this.removeIf(new Predicate<E>() {
+
+			@Override
+			public boolean test(final E element) { return c.contains(element); }
+		});
+	}
+
+	/**
+	 * Removes all elements of this list which satisfy the predicate. First
+	 * all elements are tested, then the remaining ones are published with
+	 * one copy. If the predicate throws an exception, the list isn't
+	 * modified.
+	 *
+	 * @param filter a predicate which returns <code>true</code> for elements
+	 *        to be removed.
+	 * @return <code>true</code> if any elements were removed.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final boolean removeIf(final Predicate<? super E> filter) {
+
+		Objects.requireNonNull(filter);
+
+		lock.lock();
+		try {
+			final Object[] oldData = elementData;
+			final BitSet removeSet = new BitSet(oldData.length);
+			for (int i = 0; i < oldData.length; i++) {
+				if (filter.test((E) oldData[i])) { removeSet.set(i); }
+			}
+			if (removeSet.isEmpty()) { return Boolean.FALSE; }
+
+			final Object[] data = new Object[oldData.length - removeSet.cardinality()];
+			for (int i = removeSet.nextClearBit(0), w = 0; i < oldData.length; i = removeSet.nextClearBit(i + 1)) {
+				data[w++] = oldData[i];
+			}
+			this.publish(data);
+
+			return Boolean.TRUE;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the elements at the specified indices from this list with one
+	 * copy.
+	 *
+	 * @param indices the indices of the elements to be removed in strictly
+	 *        ascending order.
+	 * @throws IndexOutOfBoundsException if an index is out of range
+	 *         <code>(index &lt; 0 || index &gt;= size())</code>.
+	 * @throws IllegalArgumentException if the indices aren't strictly
+	 *         ascending.
+	 */
+	public final void removeIndices(final int[] indices) {
+
+		final int numRemoved = indices.length;
+		if (numRemoved == 0) { return; }
+
+		lock.lock();
+		try {
+			final Object[] oldData = elementData;
+			if (indices[0] < 0 || indices[numRemoved - 1] >= oldData.length) {
+
+			    throw new IndexOutOfBoundsException(
+			    		"Index: " + ((indices[0] < 0) ? indices[0] : indices[numRemoved - 1])
+			    		+ ", Size: "+ oldData.length
+			    		);
+			}
+			for (int i = 1; i < numRemoved; i++) {
+
+				if (indices[i] <= indices[i - 1]) {
+					throw new IllegalArgumentException(
+							"Indices not strictly ascending at position: " + i);
+				}
+			}
+
+			final Object[] data = new Object[oldData.length - numRemoved];
+			System.arraycopy(oldData, 0, data, 0, indices[0]);
+			int w = indices[0];
+			for (int i = 0; i < numRemoved; i++) {
+
+				final int from = indices[i] + 1;
+				final int to = (i + 1 < numRemoved) ? indices[i + 1] : oldData.length;
+				System.arraycopy(oldData, from, data, w, to - from);
+				w += to - from;
+			}
+			this.publish(data);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index out of range
+     *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+     */
+	public final E replace(final int index, final E element) {
+
+		lock.lock();
+		try {
+			final E oldValue = this.get(index);
+			final Object[] data = elementData.clone();
+			data[index] = element;
+			this.publish(data);
+
+			return oldValue;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Replaces each element of this list with the result of applying the
+	 * operator to that element. The results are published with one copy.
+	 *
+	 * @param operator the operator to apply to each element.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void replaceAll(final UnaryOperator<E> operator) {
+
+		lock.lock();
+		try {
+			final Object[] data = elementData.clone();
+			for (int i = 0; i < data.length; i++) { data[i] = operator.apply((E) data[i]); }
+			this.publish(data);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all elements of this list which aren't contained in the
+	 * specified collection, with one copy.
+	 *
+	 * @param c the elements to be retained.
+	 * @return <code>true</code> if any elements were removed.
+	 */
+	@Override
+	public final boolean retainAll(final Collection<?> c) {
+
+		Objects.requireNonNull(c);
+
+		return this.removeIf(new Predicate<E>() {
+
+			@Override
+			public boolean test(final E element) { return !c.contains(element); }
+		});
+	}
+
+	@Override
+	public final E set(final int index, final E element) {
+
+		return this.replace(index, element);
+	}
+
+	@Override
+	public int size() { return elementData.length; }
+
+	/**
+	 * Sorts this list according to the order induced by the specified
+	 * comparator. A copy of the array is sorted and then published, so
+	 * readers never see a partly sorted list.
+	 *
+	 * @param comparator the comparator or <code>null</code> for the
+	 *        <i>natural ordering</i>.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void sort(final Comparator<? super E> comparator) {
+
+		lock.lock();
+		try {
+			final Object[] data = elementData.clone();
+			ArrayListLight.sort((E[]) data, 0, data.length, comparator);
+			this.publish(data);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Spliterator<E> spliterator() { return this.view().spliterator(); }
+
+	/**
+	 * Returns a read-only view of the specified range of the elements from
+	 * the time of the call. Later changes of this list aren't visible in the
+	 * view.
+	 *
+	 * @param fromIndex low endpoint (inclusive) of the sub list.
+	 * @param toIndex high endpoint (exclusive) of the sub list.
+	 * @return a view of the specified range within this list.
+	 * @throws IndexOutOfBoundsException if an endpoint is out of range.
+	 * @throws IllegalArgumentException if the endpoints are out of order.
+	 */
+	@Override
+	public List<E> subList(final int fromIndex, final int toIndex) {
+
+		return this.view().subList(fromIndex, toIndex);
+	}
+
+	/**
+	 * Returns an array with all elements from one consistent version of
+	 * this list.
+	 *
+	 * @return an array containing the elements of the list.
+	 */
+	@Override
+	public Object[] toArray() { return elementData.clone(); }
+
+	/**
+	 * Applies several changes as one transaction. The editor gets a private
+	 * <code>ArrayListLight</code> with the current elements and can change
+	 * it in any way. After the editor returns, the result is published with
+	 * one single copy. Readers see either the old or the new version, never
+	 * a state in between. Other writers wait until the transaction is
+	 * published.<p>
+	 *
+	 * If the editor throws an exception, nothing is published.
+	 *
+	 * @param editor the editor which applies the changes.
+	 */
+	@SuppressWarnings("unchecked")
+	public final void update(final Consumer<? super ArrayListLight<E>> editor) {
+
+		lock.lock();
+		try {
+			final Object[] oldData = elementData;
+			final ArrayListLight<E> working = new ArrayListLight<E>(oldData.length + 16);
+			working.addAll((E[]) oldData);
+
+			editor.accept(working);
+
+			this.publish(working.toArray(new Object[working.getSize()]));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a read-only view of the current version.
+	 */
+	private SnapshotListLight<E> view() {
+
+		final Object[] data = elementData;
+
+		return new SnapshotListLight<E>(data, 0, data.length);
+	}
+}
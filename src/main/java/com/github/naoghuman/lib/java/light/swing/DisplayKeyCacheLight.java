@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.swing.ListModel;
+
+/**
+ * Caches the display strings of elements, so an expensive
+ * <code>toString()</code> is computed only once per element and not for
+ * every comparison, every painted cell and every search.<p>
+ *
+ * The strings are cached per element instance (by identity, not by
+ * <code>equals</code>). If an element is changed, its string must be
+ * invalidated. A <code>ListModelLight</code> with this cache does this in
+ * <code>set(int, Object)</code> and <code>replace(Object, Object)</code>
+ * and drops the strings of removed elements.<p>
+ *
+ * The cache is thread safe, because a large list is sorted in parallel.
+ * So the key function is called on several threads, too.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ListModelLight#setDisplayKeyCache(DisplayKeyCacheLight)
+ */
+public final class DisplayKeyCacheLight {
+
+	/**
+	 * The number of separately locked maps, so threads which sort a list
+	 * in parallel rarely wait for each other.
+	 */
+	private static final int STRIPES = 16;
+
+	private final Comparator<Object> comparator = new Comparator<Object>() {
+
+		@Override
+		public int compare(final Object o1, final Object o2) {
+
+			final String key1 = DisplayKeyCacheLight.this.getKey(o1);
+			final String key2 = DisplayKeyCacheLight.this.getKey(o2);
+			if (key1 == null || key2 == null) {
+				return (key1 == key2) ? 0 : ((key1 == null) ? -1 : 1);
+			}
+
+			return key1.compareTo(key2);
+		}
+	};
+
+	private final Function<Object, String> keyFunction;
+	private final List<IdentityHashMap<Object, String>> stripes = createStripes();
+
+	/**
+	 * Creates a cache for the <code>toString()</code> values of the
+	 * elements.
+	 */
+	public DisplayKeyCacheLight() {
+
+		this(new Function<Object, String>() {
+
+			@Override
+			public String apply(final Object element) { return element.toString(); }
+		});
+	}
+
+	/**
+	 * Creates a cache for the strings which are computed by the key
+	 * function. The function isn't called for <code>null</code>.
+	 *
+	 * @param keyFunction the function which returns the display string of
+	 *        an element.
+	 */
+	public DisplayKeyCacheLight(final Function<Object, String> keyFunction) {
+
+		this.keyFunction = keyFunction;
+	}
+
+	/**
+	 * Removes all cached strings.
+	 */
+	public void clear() {
+
+		for (final IdentityHashMap<Object, String> stripe : stripes) {
+			synchronized (stripe) { stripe.clear(); }
+		}
+	}
+
+	/**
+	 * Returns <code>STRIPES</code> empty maps.
+	 */
+	private static List<IdentityHashMap<Object, String>> createStripes() {
+
+		final List<IdentityHashMap<Object, String>> maps =
+				new ArrayList<IdentityHashMap<Object, String>>(STRIPES);
+		for (int i = 0; i < STRIPES; i++) { maps.add(new IdentityHashMap<Object, String>()); }
+
+		return maps;
+	}
+
+	/**
+	 * Returns the cache of the <code>ListModelLight</code> which is shown
+	 * by the model, or <code>null</code>.
+	 */
+	static DisplayKeyCacheLight forModel(final ListModel<?> model) {
+
+		if (model instanceof ListModelLight) {
+			return ((ListModelLight) model).getDisplayKeyCache();
+		}
+		if (model instanceof ListViewModelLight) {
+			return ((ListViewModelLight) model).getSource().getDisplayKeyCache();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns a comparator which orders the elements by their cached
+	 * strings, for example for <code>ListModelLight.sort(Comparator)</code>.
+	 * <code>null</code> is ordered before all other elements.
+	 *
+	 * @return the comparator.
+	 */
+	public Comparator<Object> getComparator() { return comparator; }
+
+	/**
+	 * Returns the display string of the element. The string is computed
+	 * with the first request and then taken from the cache.
+	 *
+	 * @param element the element.
+	 * @return the display string or <code>null</code> for
+	 *         <code>null</code>.
+	 */
+	public String getKey(final Object element) {
+
+		if (element == null) { return null; }
+
+		final IdentityHashMap<Object, String> stripe = this.getStripe(element);
+		synchronized (stripe) {
+
+			final String key = stripe.get(element);
+			if (key != null) { return key; }
+		}
+
+		// Computed without the lock, another thread may do it too.
+		final String key = keyFunction.apply(element);
+		if (key != null) {
+			synchronized (stripe) { stripe.put(element, key); }
+		}
+
+		return key;
+	}
+
+	/**
+	 * Returns the number of cached strings.
+	 *
+	 * @return the size of this cache.
+	 */
+	public int getSize() {
+
+		int size = 0;
+		for (final IdentityHashMap<Object, String> stripe : stripes) {
+			synchronized (stripe) { size += stripe.size(); }
+		}
+
+		return size;
+	}
+
+	private IdentityHashMap<Object, String> getStripe(final Object element) {
+
+		return stripes.get(System.identityHashCode(element) & (STRIPES - 1));
+	}
+
+	/**
+	 * Removes the cached string of the element, so it's computed again
+	 * with the next request.
+	 *
+	 * @param element the changed element.
+	 */
+	public void invalidate(final Object element) {
+
+		if (element == null) { return; }
+
+		final IdentityHashMap<Object, String> stripe = this.getStripe(element);
+		synchronized (stripe) { stripe.remove(element); }
+	}
+
+	/**
+	 * Keeps only the cached strings of the specified elements.
+	 */
+	void retain(final List<Object> elements) {
+
+		final List<IdentityHashMap<Object, String>> retained = createStripes();
+		for (final Object element : elements) {
+
+			if (element == null) { continue; }
+
+			final int i = System.identityHashCode(element) & (STRIPES - 1);
+			final IdentityHashMap<Object, String> stripe = stripes.get(i);
+			final String key;
+			synchronized (stripe) { key = stripe.get(element); }
+			if (key != null) { retained.get(i).put(element, key); }
+		}
+
+		for (int i = 0; i < STRIPES; i++) {
+
+			final IdentityHashMap<Object, String> stripe = stripes.get(i);
+			synchronized (stripe) {
+
+				stripe.clear();
+				stripe.putAll(retained.get(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Resizable-array implementation of the <code>List</code> interface with a
+ * movable gap (a so called <i>gap buffer</i>) and the same public methods
+ * like <code>ArrayListLight</code>.<p>
+ *
+ * The unused capacity of the array isn't at the end, but forms a gap at the
+ * position of the last insert or remove. An insert or remove at the gap
+ * costs <code>O(1)</code>, an operation at another position first moves
+ * the gap there, which only moves the elements between the old and the new
+ * position. So a series of edits around the same position (for example
+ * new entries near the selection in a live view) are much cheaper than
+ * in <code>ArrayListLight</code>, where every edit shifts the whole
+ * suffix.<p>
+ *
+ * Appending to the end moves the gap to the end, so alternating edits at
+ * the end and in the middle are as expensive as in
+ * <code>ArrayListLight</code>.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ArrayListLight
+ */
+public class GapArrayListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess {
+
+    /**
+     * The array buffer into which the elements are stored. The elements
+     * are in <code>[0, gapStart)</code> and <code>[gapEnd, length)</code>.
+     */
+	private Object[] elementData = null;
+
+	private int gapStart = 0;
+	private int gapEnd = 0;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+	public GapArrayListLight() { this(10); }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list.
+     * @exception IllegalArgumentException if the specified initial capacity
+     *            is negative.
+     */
+	public GapArrayListLight(final int initialCapacity) {
+
+		super();
+	    if (initialCapacity < 0) {
+	    	throw new IllegalArgumentException(
+	    			"Illegal Capacity: " + initialCapacity);
+	    }
+
+	    elementData = new Object[initialCapacity];
+	    gapEnd = initialCapacity;
+	}
+
+    /**
+     * Appends the specified element to the end of this list. The gap is
+     * moved to the end of the list.
+     *
+     * @param o element to be appended to this list.
+     * @return <code>true</code> (as per the general contract of Collection.add()).
+     */
+	@Override
+	public final boolean add(final E o) {
+
+		this.add(this.getSize(), o);
+
+		return Boolean.TRUE;
+	}
+
+    /**
+	 * Inserts the specified element at the specified position in this list.
+	 * The gap is moved to <code>index</code> and the element is stored at
+	 * the begin of the gap.
+	 *
+	 * @param index index at which the specified element is to be inserted.
+	 * @param element element to be inserted.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	@Override
+	public final void add(final int index, final E element) {
+
+		this.checkPositionIndex(index);
+
+		this.ensureCapacity(this.getSize() + 1);
+		this.moveGap(index);
+		elementData[gapStart++] = element;
+	}
+
+    /**
+     * Inserts all of the elements in the specified array into this list,
+     * starting at the specified position. The gap is moved to
+     * <code>index</code> and the elements are copied into the gap.
+     *
+     * @param index index at which to insert the first element.
+     * @param elements elements to be inserted into this list.
+     * @return <code>true</code> if this list changed as a result of the call.
+     * @throws IndexOutOfBoundsException if index is out of range
+     *             <code>(index &lt; 0 || index &gt; size())</code>.
+     */
+	public final boolean addAll(final int index, final E[] elements) {
+
+		this.checkPositionIndex(index);
+		if (elements.length == 0) { return Boolean.FALSE; }
+
+		this.ensureCapacity(this.getSize() + elements.length);
+		this.moveGap(index);
+		System.arraycopy(elements, 0, elementData, gapStart, elements.length);
+		gapStart += elements.length;
+
+		return Boolean.TRUE;
+	}
+
+	private void checkPositionIndex(final int index) {
+
+		if (index > this.getSize() || index < 0) {
+
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + this.getSize()
+					);
+		}
+	}
+
+    /**
+     * Removes all of the elements from this list. The list will
+     * be empty after this call returns.
+     */
+	@Override
+	public void clear() {
+
+		modCount++;
+		Arrays.fill(elementData, 0, gapStart, null);
+		Arrays.fill(elementData, gapEnd, elementData.length, null);
+		gapStart = 0;
+		gapEnd = elementData.length;
+	}
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument. The gap grows at its current position.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+	public final void ensureCapacity(final int minCapacity) {
+
+		modCount++;
+		final int oldCapacity = elementData.length;
+		if (minCapacity > oldCapacity) {
+
+			int newCapacity = oldCapacity * 3 / 2 + 1;
+			if (newCapacity < minCapacity) {
+				newCapacity = minCapacity;
+			}
+
+			final Object[] oldData = elementData;
+			final int tail = oldCapacity - gapEnd;
+			elementData = new Object[newCapacity];
+			System.arraycopy(oldData, 0, elementData, 0, gapStart);
+			System.arraycopy(oldData, gapEnd, elementData, newCapacity - tail, tail);
+			gapEnd = newCapacity - tail;
+		}
+	}
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final E get(final int index) {
+
+		this.rangeCheck(index);
+
+		return (E) elementData[this.toPhysical(index)];
+	}
+
+	/**
+	 * Returns the index in this list where the gap currently is. An insert
+	 * or remove at this index doesn't move any element.
+	 *
+	 * @return the index of the gap.
+	 */
+	public int getGapIndex() { return gapStart; }
+
+	/**
+	 * Returns the capacity of this list.
+	 *
+	 * @return the capacity of this list.
+	 */
+	public int getLength() { return elementData.length; }
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return the number of elements.
+	 */
+	public int getSize() { return elementData.length - (gapEnd - gapStart); }
+
+	/**
+	 * Moves the gap so that it starts at <code>index</code>. Only the
+	 * elements between the old and the new position are moved, the slots
+	 * which become part of the gap are cleared.
+	 */
+	private void moveGap(final int index) {
+
+		if (index == gapStart) { return; }
+
+		final int gapLength = gapEnd - gapStart;
+		if (index < gapStart) {
+
+			final int count = gapStart - index;
+			System.arraycopy(elementData, index, elementData, gapEnd - count, count);
+			Arrays.fill(elementData, index, index + Math.min(count, gapLength), null);
+			gapStart = index;
+			gapEnd -= count;
+		}
+		else {
+
+			final int count = index - gapStart;
+			System.arraycopy(elementData, gapEnd, elementData, gapStart, count);
+			Arrays.fill(elementData, Math.max(gapEnd, index), gapEnd + count, null);
+			gapStart = index;
+			gapEnd += count;
+		}
+	}
+
+    /**
+     * Check if the given index is in range. If not, throw an appropriate
+     * runtime exception.
+     */
+	private void rangeCheck(final int index) {
+
+		if (index >= this.getSize() || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ this.getSize()
+		    		);
+		}
+	}
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their
+     * indices). The gap is moved to <code>index</code> and grows by one.
+     *
+     * @param index the index of the element to removed.
+     * @return the element that was removed from the list.
+     * @throws  IndexOutOfBoundsException if index out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	public final E remove(final int index) {
+
+		final E oldValue = this.get(index);
+
+		modCount++;
+		if (index == gapStart - 1) {
+
+			// Removing the element before the gap, like a backspace.
+			elementData[--gapStart] = null;
+		}
+		else {
+
+			this.moveGap(index);
+			elementData[gapEnd++] = null;
+		}
+
+		return oldValue;
+	}
+
+	/**
+     * Replaces the element at the specified position in this list with
+     * the specified element. The gap isn't moved.
+     *
+     * @param index index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index out of range
+     *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+     */
+	public final E replace(final int index, final E element) {
+
+		final E oldValue = this.get(index);
+		elementData[this.toPhysical(index)] = element;
+
+		return oldValue;
+	}
+
+	@Override
+	public final E set(final int index, final E element) {
+
+		return this.replace(index, element);
+	}
+
+	@Override
+	public int size() { return this.getSize(); }
+
+	private int toPhysical(final int index) {
+
+		return (index < gapStart) ? index : index + (gapEnd - gapStart);
+	}
+
+    /**
+	 * Trims the capacity of this list to be the list's current size. The
+	 * gap is removed and moved to the end of the list.
+	 */
+	public void trimToSize() {
+
+		modCount++;
+		final int size = this.getSize();
+		if (size < elementData.length) {
+
+			final Object[] oldData = elementData;
+			elementData = new Object[size];
+			System.arraycopy(oldData, 0, elementData, 0, gapStart);
+			System.arraycopy(oldData, gapEnd, elementData, gapStart, size - gapStart);
+			gapStart = size;
+			gapEnd = size;
+		}
+	}
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Resizable-array implementation of the <code>List</code> interface for
+ * <code>int</code> values. The values are stored unboxed in a
+ * <code>int[]</code>, so no wrapper object is created per element.<p>
+ * 
+ * The methods with the suffix <code>Int</code> (for example
+ * <code>addInt(int)</code> or <code>getInt(int)</code>) work directly with
+ * the primitive values. The methods from the <code>List</code> interface
+ * are supported too, but they box and unbox every value.<p>
+ * 
+ * Growth, <code>ensureCapacity</code>, <code>trimToSize</code> and
+ * <code>replace</code> work like in <code>ArrayListLight</code>.<p>
+ * 
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ArrayListLight
+ */
+public class IntArrayListLight extends AbstractList<Integer> implements List<Integer>,
+		RandomAccess {
+	
+    /**
+     * The array buffer into which the values are stored. The capacity of
+     * the list is the length of this array buffer.
+     */
+    private int[] elementData = null;
+    
+    /**
+     * The size of the list (the number of values it contains).
+     */
+    private int size = 0;
+    
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public IntArrayListLight() { this(10); }
+    
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list.
+     * @exception IllegalArgumentException if the specified initial capacity
+     *            is negative.
+     */
+	public IntArrayListLight(final int initialCapacity) {
+    	
+		super();
+	    if (initialCapacity < 0) {
+	    	throw new IllegalArgumentException(
+	    			"Illegal Capacity: " + initialCapacity);
+	    }
+	            
+	    elementData = new int[initialCapacity];
+    }
+    
+    /**
+     * Appends the specified value to the end of this list.
+     *
+     * @param value value to be appended to this list.
+     */
+	public final void addInt(final int value) {
+    	
+    	this.ensureCapacity(size + 1);
+    	elementData[size++] = value;
+    }
+    
+    /**
+	 * Inserts the specified value at the specified position in this list.
+	 * Shifts the value currently at that position (if any) and any subsequent
+	 * values to the right (adds one to their indices).
+	 * 
+	 * @param index index at which the specified value is to be inserted.
+	 * @param value value to be inserted.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	public final void addInt(final int index, final int value) {
+
+		if (index > size || index < 0) {
+			
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size
+					);
+		}
+
+		this.ensureCapacity(size + 1);
+		System.arraycopy(elementData, index, elementData, index + 1, size - index);
+		elementData[index] = value;
+		size++;
+	}
+
+    /**
+     * Appends all of the values in the specified array to the end of this
+     * list. The capacity grows at most once.
+     *
+     * @param values values to be appended to this list.
+     */
+    public final void addAll(final int[] values) {
+
+		this.ensureCapacity(size + values.length);
+		System.arraycopy(values, 0, elementData, size, values.length);
+		size += values.length;
+	}
+    
+    @Override
+	public final boolean add(final Integer value) {
+    	
+    	this.addInt(value);
+    	
+    	return Boolean.TRUE;
+    }
+    
+    @Override
+	public final void add(final int index, final Integer value) {
+    	
+    	this.addInt(index, value);
+    }
+    
+    /**
+     * Removes all of the values from this list. The list will
+     * be empty after this call returns.
+     */
+    @Override
+	public void clear() {
+    	
+    	modCount++;
+    	size = 0;
+    }
+    
+    /**
+	 * Returns <code>true</code> if this list contains the specified value.
+	 * 
+	 * @param value which presence in this list is to be tested.
+	 * @return <code>true</code> if the specified value is present -
+	 *         <code>false</code> otherwise.
+	 */
+	public final boolean containsInt(final int value) {
+    	
+    	return this.indexOfInt(value) >= 0;
+    }
+    
+    @Override
+	public final boolean contains(final Object o) {
+    	
+    	return this.indexOf(o) >= 0;
+    }
+    
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of values specified by the minimum
+     * capacity argument. 
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+	public final void ensureCapacity(final int minCapacity) {
+    	
+		modCount++;
+		final int oldCapacity = elementData.length;
+		if (minCapacity > oldCapacity) {
+			
+			int newCapacity = oldCapacity * 3 / 2 + 1;
+			if (newCapacity < minCapacity) {
+				newCapacity = minCapacity;
+			}
+			
+			elementData = Arrays.copyOf(elementData, newCapacity);
+		}
+	}
+    
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @param  index index of value to return.
+     * @return the value at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+    public final int getInt(final int index) {
+    	
+    	this.rangeCheck(index);
+    	
+    	return elementData[index];
+    }
+    
+    @Override
+    public final Integer get(final int index) {
+    	
+    	return this.getInt(index);
+    }
+    
+    /**
+	 * Returns the capacity of this list. This isn't the number of the
+	 * contained values, but how many values can be stored before the
+	 * internal array must grow.
+	 * 
+	 * @return the capacity of this list.
+	 */
+	public int getLength() { return elementData.length; }
+    
+    /**
+	 * Returns the number of values in this list.
+	 * 
+	 * @return the number of values.
+	 */
+	public int getSize() { return size; }
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in
+	 * this list, or -1 if this list does not contain the value.
+	 * 
+	 * @param value value to search for.
+	 * @return the index of the first occurrence or -1.
+	 */
+	public final int indexOfInt(final int value) {
+		
+		for (int i = 0; i < size; i++) {
+			if (elementData[i] == value) { return i; }
+		}
+		
+		return -1;
+	}
+	
+	@Override
+	public final int indexOf(final Object o) {
+		
+		return (o instanceof Integer) ? this.indexOfInt((Integer) o) : -1;
+	}
+	
+	/**
+	 * Returns an iterator over the values in this list which doesn't box
+	 * the values.
+	 * 
+	 * @return a primitive iterator over the values in this list.
+	 */
+	public final PrimitiveIterator.OfInt intIterator() {
+		
+		return new PrimitiveIterator.OfInt() {
+			
+			private int cursor = 0;
+			private final int expectedModCount = modCount;
+			
+			@Override
+			public boolean hasNext() { return cursor < size; }
+			
+			@Override
+			public int nextInt() {
+				
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (cursor >= size) { throw new NoSuchElementException(); }
+				
+				return elementData[cursor++];
+			}
+		};
+	}
+	
+	/**
+	 * Returns a sequential <code>IntStream</code> with the values from this list
+	 * as its source. The stream works directly on the internal array, so
+	 * this list must not be modified while the stream is in use.
+	 * 
+	 * @return a stream over the values in this list.
+	 */
+	public final IntStream intStream() {
+		
+		return Arrays.stream(elementData, 0, size);
+	}
+    
+    /**
+     * Check if the given index is in range. If not, throw an appropriate
+     * runtime exception.  This method does *not* check if the index is
+     * negative: It is always used immediately prior to an array access,
+     * which throws an ArrayIndexOutOfBoundsException if index is negative.
+     */
+    private final void rangeCheck(final int index) {
+    	
+		if (index >= size) {
+			
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + " >= Size: "+ size
+		    		);
+		}
+    }
+    
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left (subtracts one from their
+     * indices).
+     *
+     * @param index the index of the value to removed.
+     * @return the value that was removed from the list.
+     * @throws  IndexOutOfBoundsException if index out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	public final int removeInt(final int index) {
+    	
+    	this.rangeCheck(index);
+    	
+		modCount++;
+		final int oldValue = elementData[index];
+		final int numMoved = size - index - 1;
+		if (numMoved > 0) {
+			
+			System.arraycopy(elementData, index + 1, elementData, index, numMoved);
+		}
+		size--;
+
+		return oldValue;
+	}
+    
+    @Override
+	public final Integer remove(final int index) {
+    	
+    	return this.removeInt(index);
+    }
+	
+	/**
+     * Replaces the value at the specified position in this list with
+     * the specified value.
+     *
+     * @param index index of value to replace.
+     * @param value value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException if index out of range
+     *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+     */
+	public final int replace(final int index, final int value) {
+    	
+    	this.rangeCheck(index);
+
+		final int oldValue = elementData[index];
+		elementData[index] = value;
+		
+		return oldValue;
+    }
+    
+    @Override
+	public final Integer set(final int index, final Integer value) {
+		
+		return this.replace(index, value.intValue());
+    }
+	
+	@Override
+	public int size() { return size; }
+	
+	/**
+	 * Sorts the values from this list into ascending numerical order.
+	 */
+	public final void sort() {
+		
+		modCount++;
+		Arrays.sort(elementData, 0, size);
+	}
+	
+	/**
+	 * Returns an array containing all of the values in this list in the
+	 * correct order.
+	 * 
+	 * @return an array containing the values of the list.
+	 */
+	public final int[] toIntArray() { return Arrays.copyOf(elementData, size); }
+	
+    /**
+	 * Trims the capacity of this list to be the list's current size. An
+	 * application can use this operation to minimize the storage of the
+	 * list.
+	 */
+	public void trimToSize() {
+
+		modCount++;
+		if (size < elementData.length) {
+			
+			elementData = Arrays.copyOf(elementData, size);
+		}
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Insets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.Icon;
+import javax.swing.JList;
+import javax.swing.UIManager;
+import javax.swing.border.Border;
+import javax.swing.plaf.basic.BasicHTML;
+
+/**
+ * A cell renderer for lists with many rows, which doesn't allocate objects
+ * per painted cell.<p>
+ *
+ * Like the <code>DefaultListCellRenderer</code> one label is configured and
+ * returned for every cell. The borders are looked up once per look and
+ * feel and not for every cell, and the text is only set if it has changed.
+ * The cell of a drop location is painted like a selected cell in the drop
+ * colors of the look and feel.
+ * If the model has a <code>DisplayKeyCacheLight</code>, the text is taken
+ * from the cache instead of calling <code>toString()</code>.<p>
+ *
+ * The measured widths of the texts are cached per font, with a bounded
+ * number of texts per font (the last recently used are kept). So a list
+ * without a fixed cell width doesn't measure every text again for
+ * <code>getPreferredSize()</code>.<p>
+ *
+ * <b>Benötigte Klassen:</b><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.DisplayKeyCacheLight</code>
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ListLight
+ */
+public final class ListCellRendererLight extends DefaultListCellRenderer {
+
+	private static final long serialVersionUID = -2214830675309957312L;
+
+	/**
+	 * The maximal number of cached widths per font.
+	 */
+	private static final int MAX_WIDTHS = 4096;
+
+	/**
+	 * The maximal number of fonts with cached widths.
+	 */
+	private static final int MAX_FONTS = 4;
+
+	private final Insets insets = new Insets(0, 0, 0, 0);
+
+	/*
+	 * The borders and drop colors of the current look and feel, set in
+	 * updateUI() (which is called by the constructor of JLabel, so the
+	 * fields have no initializers).
+	 */
+	private Border focusBorder;
+	private Border focusSelectedBorder;
+	private Border noFocusBorder;
+	private Color dropBackground;
+	private Color dropForeground;
+
+	/**
+	 * The cached widths of the texts per font.
+	 */
+	private transient LinkedHashMap<Font, LinkedHashMap<String, Integer>> widths;
+
+	/**
+	 * Creates a cell renderer.
+	 */
+	public ListCellRendererLight() { super(); }
+
+	@Override
+	public Component getListCellRendererComponent(
+			final JList list, final Object value, final int index,
+			final boolean isSelected, final boolean cellHasFocus
+	) {
+		this.setComponentOrientation(list.getComponentOrientation());
+
+		// The cell of a drop location (not between two cells) is shown as
+		// selected, in the drop colors if the look and feel defines them.
+		final JList.DropLocation dropLocation = list.getDropLocation();
+		final boolean isDropCell = dropLocation != null
+				&& !dropLocation.isInsert() && dropLocation.getIndex() == index;
+		final boolean selected = isSelected || isDropCell;
+		if (selected) {
+
+			this.setBackground((isDropCell && dropBackground != null) ? dropBackground : list.getSelectionBackground());
+			this.setForeground((isDropCell && dropForeground != null) ? dropForeground : list.getSelectionForeground());
+		}
+		else {
+
+			this.setBackground(list.getBackground());
+			this.setForeground(list.getForeground());
+		}
+
+		if (value instanceof Icon) {
+
+			this.setIcon((Icon) value);
+			this.setTextIfChanged("");
+		}
+		else {
+
+			if (this.getIcon() != null) { this.setIcon(null); }
+			this.setTextIfChanged(this.getDisplayText(list, value));
+		}
+
+		this.setEnabled(list.isEnabled());
+		this.setFont(list.getFont());
+		this.setBorder(cellHasFocus ? (selected ? focusSelectedBorder : focusBorder) : noFocusBorder);
+
+		return this;
+	}
+
+	/**
+	 * Returns the text of the value from the <code>DisplayKeyCacheLight</code>
+	 * of the model or from <code>toString()</code>.
+	 */
+	private String getDisplayText(final JList list, final Object value) {
+
+		if (value == null) { return ""; }
+
+		final DisplayKeyCacheLight displayKeys = DisplayKeyCacheLight.forModel(list.getModel());
+		final String text = (displayKeys != null) ? displayKeys.getKey(value) : value.toString();
+
+		return (text != null) ? text : "";
+	}
+
+	/**
+	 * Returns the preferred size with the cached width of the text. Cells
+	 * with an icon or HTML text are measured by the label.
+	 *
+	 * @return the preferred size.
+	 */
+	@Override
+	public Dimension getPreferredSize() {
+
+		final String text = this.getText();
+		if (
+				this.getIcon() != null || text == null || text.isEmpty()
+				|| this.getClientProperty(BasicHTML.propertyKey) != null
+		) {
+			return super.getPreferredSize();
+		}
+
+		final Font font = this.getFont();
+		final FontMetrics metrics = this.getFontMetrics(font);
+		this.getInsets(insets);
+
+		return new Dimension(
+				this.getTextWidth(font, metrics, text) + insets.left + insets.right,
+				metrics.getHeight() + insets.top + insets.bottom);
+	}
+
+	/**
+	 * Returns the width of the text from the cache or measures it.
+	 */
+	private int getTextWidth(final Font font, final FontMetrics metrics, final String text) {
+
+		if (widths == null) {
+
+			widths = new LinkedHashMap<Font, LinkedHashMap<String, Integer>>(8, 0.75f, Boolean.TRUE) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(
+						final Map.Entry<Font, LinkedHashMap<String, Integer>> eldest
+				) {
+					return this.size() > MAX_FONTS;
+				}
+			};
+		}
+
+		LinkedHashMap<String, Integer> fontWidths = widths.get(font);
+		if (fontWidths == null) {
+
+			fontWidths = new LinkedHashMap<String, Integer>(64, 0.75f, Boolean.TRUE) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<String, Integer> eldest) {
+
+					return this.size() > MAX_WIDTHS;
+				}
+			};
+			widths.put(font, fontWidths);
+		}
+
+		Integer width = fontWidths.get(text);
+		if (width == null) {
+
+			width = metrics.stringWidth(text);
+			fontWidths.put(text, width);
+		}
+
+		return width;
+	}
+
+	/**
+	 * Sets the text only if it isn't the same string, so the label doesn't
+	 * check it for HTML and compare it again for every cell.
+	 */
+	private void setTextIfChanged(final String text) {
+
+		if (text != this.getText()) { this.setText(text); }
+	}
+
+	/**
+	 * Looks up the borders and drop colors of the new look and feel.
+	 */
+	@Override
+	public void updateUI() {
+
+		super.updateUI();
+
+		noFocusBorder = UIManager.getBorder("List.cellNoFocusBorder");
+		if (noFocusBorder == null) { noFocusBorder = DefaultListCellRenderer.noFocusBorder; }
+
+		focusBorder = UIManager.getBorder("List.focusCellHighlightBorder");
+		focusSelectedBorder = UIManager.getBorder("List.focusSelectedCellHighlightBorder");
+		if (focusSelectedBorder == null) { focusSelectedBorder = focusBorder; }
+
+		dropBackground = UIManager.getColor("List.dropCellBackground");
+		dropForeground = UIManager.getColor("List.dropCellForeground");
+	}
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A set of changes (inserts, removes and replacements) for a
+ * <code>ListModelLight</code>, which can be built on a worker thread and is
+ * applied on the event dispatch thread in one step.<p>
+ *
+ * The change set is created on the event dispatch thread with
+ * {@link ListModelLight#createChangeSet()} and contains a snapshot of the
+ * elements from that time. All indices refer to this snapshot, the changes
+ * can be added in any order. {@link #prepare()} builds the new array of
+ * elements and the events; it should be called on the worker thread too.
+ * Then {@link ListModelLight#apply(ListChangeSetLight)} only swaps the
+ * array and fires the events:
+ * <pre>
+ * final ListChangeSetLight changeSet = model.createChangeSet();
+ * executor.execute(new Runnable() {
+ *     public void run() {
+ *         for (int i = 0; i &lt; changeSet.getSize(); i++) {
+ *             if (isOutdated(changeSet.get(i))) { changeSet.remove(i); }
+ *         }
+ *         changeSet.prepare();
+ *         SwingUtilities.invokeLater(new Runnable() {
+ *             public void run() { model.apply(changeSet); }
+ *         });
+ *     }
+ * });
+ * </pre>
+ *
+ * A change set isn't thread-safe. It must be used by one thread at a time
+ * and handed over with a synchronizing action like
+ * <code>SwingUtilities.invokeLater</code>.<p>
+ *
+ * <b>Benötigte Klassen:</b><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.ArrayListLight</code><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.IntArrayListLight</code><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.LongArrayListLight</code>
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ListModelLight
+ */
+public final class ListChangeSetLight {
+
+	/**
+	 * Marks a remove in the list of values.
+	 */
+	private static final Object REMOVED = new Object();
+
+	private final ListModelLight model;
+	private final Object[] snapshot;
+	private final int stamp;
+
+	/*
+	 * Every change is stored as key and value. The key consists of the
+	 * snapshot index, a flag (0 for an insert, 1 for a remove or replace)
+	 * and the position of the value, so sorting the keys orders the changes
+	 * by index and keeps the order of inserts at the same index.
+	 */
+	private final LongArrayListLight keys = new LongArrayListLight();
+	private final ArrayListLight<Object> values = new ArrayListLight<Object>();
+
+	/*
+	 * The results from prepare(): the new elements and the changed runs.
+	 * Every run is stored as (snapshot index, old count, new count).
+	 */
+	private Object[] result = null;
+	private int[] runs = null;
+	private int runCount = 0;
+
+	ListChangeSetLight(final ListModelLight model, final Object[] snapshot, final int stamp) {
+
+		this.model = model;
+		this.snapshot = snapshot;
+		this.stamp = stamp;
+	}
+
+	private void addChange(final int index, final int flag, final Object value) {
+
+		if (result != null) {
+			throw new IllegalStateException("The change set is already prepared.");
+		}
+
+		keys.addLong(((((long) index) << 1 | flag) << 32) | values.getSize());
+		values.add(value);
+	}
+
+	/**
+	 * Adds the changes which turn the snapshot into the specified list (see
+	 * {@link #diff(List, Function)}). Elements are compared with
+	 * <code>equals</code>.
+	 *
+	 * @param elements the new elements.
+	 * @throws IllegalStateException if this change set already contains
+	 *         changes.
+	 */
+	public void diff(final List<?> elements) { this.diff(elements, null); }
+
+	/**
+	 * Adds the changes which turn the snapshot into the specified list. Two
+	 * elements are treated as the same row if their keys are equal; if the
+	 * elements themselves aren't equal, the row is replaced. Without a key
+	 * function the elements are the keys.<p>
+	 *
+	 * First the common prefix and suffix are skipped. In the rest the rows
+	 * are matched over a hash map (rows with the same key in the order of
+	 * their occurrence) and the longest sequence of matched rows which
+	 * keeps its order is retained, all other rows are removed and
+	 * inserted. This runs in <code>O(n log n)</code> time, independent of
+	 * the number of differences, so it can be used for lists with millions
+	 * of rows. Like {@link #prepare()} this method should be called on a
+	 * worker thread.
+	 *
+	 * @param elements the new elements.
+	 * @param keyFunction the function which returns the key of an element
+	 *        or <code>null</code>.
+	 * @throws IllegalStateException if this change set already contains
+	 *         changes.
+	 */
+	public void diff(final List<?> elements, final Function<Object, ?> keyFunction) {
+
+		if (!this.isEmpty()) {
+			throw new IllegalStateException("The change set already contains changes.");
+		}
+
+		final Object[] newElements = elements.toArray();
+		final int oldSize = snapshot.length;
+		final int newSize = newElements.length;
+		final int max = Math.min(oldSize, newSize);
+
+		int prefix = 0;
+		while (
+				prefix < max
+				&& isSame(key(snapshot[prefix], keyFunction), key(newElements[prefix], keyFunction))
+		) {
+			this.replaceIfChanged(prefix, newElements[prefix]);
+			prefix++;
+		}
+
+		int suffix = 0;
+		while (
+				suffix < max - prefix
+				&& isSame(
+						key(snapshot[oldSize - suffix - 1], keyFunction),
+						key(newElements[newSize - suffix - 1], keyFunction))
+		) {
+			this.replaceIfChanged(oldSize - suffix - 1, newElements[newSize - suffix - 1]);
+			suffix++;
+		}
+
+		final int oldHigh = oldSize - suffix;
+		final int newHigh = newSize - suffix;
+
+		// The old rows with the same key are chained in ascending order.
+		final HashMap<Object, Integer> firstOld = new HashMap<Object, Integer>();
+		final int[] nextOld = new int[oldHigh - prefix];
+		for (int i = oldHigh - 1; i >= prefix; i--) {
+
+			final Integer next = firstOld.put(key(snapshot[i], keyFunction), i);
+			nextOld[i - prefix] = (next != null) ? next : -1;
+		}
+
+		// The matched old row for every new row, -1 if there is none.
+		final int[] matches = new int[newHigh - prefix];
+		for (int j = prefix; j < newHigh; j++) {
+
+			final Object key = key(newElements[j], keyFunction);
+			final Integer i = firstOld.get(key);
+			if (i == null) {
+
+				matches[j - prefix] = -1;
+				continue;
+			}
+
+			matches[j - prefix] = i;
+			if (nextOld[i - prefix] < 0) {
+				firstOld.remove(key);
+			}
+			else {
+				firstOld.put(key, nextOld[i - prefix]);
+			}
+		}
+
+		final boolean[] retained = longestIncreasingSubsequence(matches);
+
+		int i = prefix;
+		for (int j = prefix; j < newHigh; j++) {
+
+			if (!retained[j - prefix]) { continue; }
+
+			final int match = matches[j - prefix];
+			for (; i < match; i++) { this.remove(i); }
+			this.replaceIfChanged(i++, newElements[j]);
+		}
+		for (; i < oldHigh; i++) { this.remove(i); }
+
+		// The new rows are inserted in front of the next retained row.
+		int insertIndex = oldHigh;
+		for (int j = newHigh - 1; j >= prefix; j--) {
+
+			if (retained[j - prefix]) {
+				insertIndex = matches[j - prefix];
+			}
+			matches[j - prefix] = insertIndex;
+		}
+		for (int j = prefix; j < newHigh; j++) {
+			if (!retained[j - prefix]) { this.insert(matches[j - prefix], newElements[j]); }
+		}
+	}
+
+	private static boolean isSame(final Object o1, final Object o2) {
+
+		return o1 == o2 || (o1 != null && o1.equals(o2));
+	}
+
+	private static Object key(final Object element, final Function<Object, ?> keyFunction) {
+
+		return (keyFunction != null) ? keyFunction.apply(element) : element;
+	}
+
+	/**
+	 * Marks the longest strictly increasing subsequence of the values which
+	 * aren't -1 (patience sorting, <code>O(n log n)</code>).
+	 */
+	static boolean[] longestIncreasingSubsequence(final int[] values) {
+
+		final int[] tails = new int[values.length];
+		final int[] previous = new int[values.length];
+		int length = 0;
+		for (int t = 0; t < values.length; t++) {
+
+			final int value = values[t];
+			if (value < 0) { continue; }
+
+			int low = 0;
+			int high = length;
+			while (low < high) {
+
+				final int mid = (low + high) >>> 1;
+				if (values[tails[mid]] < value) {
+					low = mid + 1;
+				}
+				else {
+					high = mid;
+				}
+			}
+
+			previous[t] = (low > 0) ? tails[low - 1] : -1;
+			tails[low] = t;
+			if (low == length) { length++; }
+		}
+
+		final boolean[] marked = new boolean[values.length];
+		for (int t = (length > 0) ? tails[length - 1] : -1; t >= 0; t = previous[t]) {
+			marked[t] = Boolean.TRUE;
+		}
+
+		return marked;
+	}
+
+	private void replaceIfChanged(final int index, final Object element) {
+
+		if (!isSame(snapshot[index], element)) { this.replace(index, element); }
+	}
+
+	private void checkIndex(final int index, final int max) {
+
+		if (index > max || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ snapshot.length
+		    		);
+		}
+	}
+
+	/**
+	 * Returns the element at the specified position in the snapshot.
+	 *
+	 * @param index index of element to return.
+	 * @return the element from the snapshot.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *         <code>(index &lt; 0 || index &gt;= getSize())</code>.
+	 */
+	public Object get(final int index) {
+
+		this.checkIndex(index, snapshot.length - 1);
+
+		return snapshot[index];
+	}
+
+	ListModelLight getModel() { return model; }
+
+	/**
+	 * Returns the number of elements in the snapshot.
+	 *
+	 * @return the size of the snapshot.
+	 */
+	public int getSize() { return snapshot.length; }
+
+	Object[] getResult() { return result; }
+
+	int getRunCount() { return runCount; }
+
+	int[] getRuns() { return runs; }
+
+	int getStamp() { return stamp; }
+
+	/**
+	 * Inserts the element in front of the element with the specified index
+	 * in the snapshot. With <code>index == getSize()</code> the element is
+	 * appended. Several inserts at the same index keep their order.
+	 *
+	 * @param index the snapshot index.
+	 * @param element the new element.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *         <code>(index &lt; 0 || index &gt; getSize())</code>.
+	 */
+	public void insert(final int index, final Object element) {
+
+		this.checkIndex(index, snapshot.length);
+		this.addChange(index, 0, element);
+	}
+
+	/**
+	 * Returns <code>true</code> if this change set contains no changes.
+	 *
+	 * @return <code>true</code> if nothing is changed.
+	 */
+	public boolean isEmpty() { return keys.getSize() == 0; }
+
+	/**
+	 * Sorts the changes and builds the new array of elements and the
+	 * events. This is the expensive part (linear in the size of the
+	 * snapshot) and should be called on the worker thread. If it isn't
+	 * called, <code>ListModelLight.apply</code> calls it. After this call
+	 * no more changes can be added.
+	 *
+	 * @throws IllegalArgumentException if an element from the snapshot is
+	 *         removed or replaced more than once.
+	 */
+	public void prepare() {
+
+		if (result != null) { return; }
+
+		final long[] sortedKeys = keys.toLongArray();
+		if (sortedKeys.length >= ArrayListLight.PARALLEL_SORT_THRESHOLD) {
+			Arrays.parallelSort(sortedKeys);
+		}
+		else {
+			Arrays.sort(sortedKeys);
+		}
+
+		int inserts = 0;
+		int removes = 0;
+		long previousKey = -1L;
+		for (final long key : sortedKeys) {
+
+			if ((key >>> 32 & 1L) == 0L) {
+				inserts++;
+				continue;
+			}
+			if (previousKey >= 0L && (previousKey >>> 32) == (key >>> 32)) {
+				throw new IllegalArgumentException(
+						"The element at index " + (key >>> 33) + " is changed more than once.");
+			}
+			if (values.get((int) key) == REMOVED) {
+				removes++;
+			}
+			previousKey = key;
+		}
+		final Object[] elements = new Object[snapshot.length + inserts - removes];
+
+		final IntArrayListLight changedRuns = new IntArrayListLight();
+		int src = 0;
+		int dst = 0;
+		int runStart = -1;
+		int runOld = 0;
+		int runNew = 0;
+		for (final long key : sortedKeys) {
+
+			final int index = (int) (key >>> 33);
+			final boolean replaceOrRemove = (key >>> 32 & 1L) == 1L;
+			final Object value = values.get((int) key);
+			if (runStart >= 0 && index > src) {
+
+				changedRuns.addInt(runStart);
+				changedRuns.addInt(runOld);
+				changedRuns.addInt(runNew);
+				runStart = -1;
+			}
+			if (runStart < 0) {
+
+				runStart = index;
+				runOld = 0;
+				runNew = 0;
+			}
+
+			System.arraycopy(snapshot, src, elements, dst, index - src);
+			dst += index - src;
+			src = index;
+			if (replaceOrRemove) {
+
+				src++;
+				runOld++;
+			}
+			if (value != REMOVED) {
+
+				elements[dst++] = value;
+				runNew++;
+			}
+		}
+		if (runStart >= 0) {
+
+			changedRuns.addInt(runStart);
+			changedRuns.addInt(runOld);
+			changedRuns.addInt(runNew);
+		}
+		System.arraycopy(snapshot, src, elements, dst, snapshot.length - src);
+
+		runs = changedRuns.toIntArray();
+		runCount = runs.length / 3;
+		result = elements;
+	}
+
+	/**
+	 * Removes the element with the specified index in the snapshot.
+	 *
+	 * @param index the snapshot index.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *         <code>(index &lt; 0 || index &gt;= getSize())</code>.
+	 */
+	public void remove(final int index) {
+
+		this.checkIndex(index, snapshot.length - 1);
+		this.addChange(index, 1, REMOVED);
+	}
+
+	/**
+	 * Replaces the element with the specified index in the snapshot.
+	 *
+	 * @param index the snapshot index.
+	 * @param element the new element.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *         <code>(index &lt; 0 || index &gt;= getSize())</code>.
+	 */
+	public void replace(final int index, final Object element) {
+
+		this.checkIndex(index, snapshot.length - 1);
+		this.addChange(index, 1, element);
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+/**
+ * Provides the rows for a <code>VirtualListModelLight</code>. The model
+ * only knows the number of rows and loads the rows page by page when they
+ * are shown, for example from a database or a large file.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see VirtualListModelLight
+ */
+public interface ListDataProviderLight {
+
+	/**
+	 * Returns the number of rows. This method is called on the event
+	 * dispatch thread when the model is created or refreshed and should
+	 * return fast.
+	 *
+	 * @return the number of rows.
+	 */
+	public int getSize();
+
+	/**
+	 * Loads the rows from <code>fromIndex</code> (inclusive) to
+	 * <code>fromIndex + count</code> (exclusive). This method is called on
+	 * a background thread and may block. If it returns fewer rows, the
+	 * missing rows stay empty.
+	 *
+	 * @param fromIndex the index of the first row.
+	 * @param count the number of rows.
+	 * @return the loaded rows.
+	 */
+	public Object[] load(int fromIndex, int count);
+}
@@ -0,0 +1,728 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+/**
+ * Filters a <code>ListViewModelLight</code> on background threads, so a
+ * list can be narrowed down while the user types a query.<p>
+ *
+ * A new filter works on a copy of the element array of the source model,
+ * which is split into chunks and matched in parallel on the executor. Each
+ * new filter cancels the running one, chunks of an older filter stop within
+ * a few rows. The results are streamed to the view on the event dispatch
+ * thread: the matched part of the list already shows the new rows, the
+ * rest still the old ones. If the view is sorted, the matched rows are
+ * sorted on the executor too, and the view is only updated once.<p>
+ *
+ * If the source model is changed while a filter runs, the matched rows are
+ * kept: they are moved to the current indices and removed elements are
+ * dropped. Added and changed elements are filtered by the view itself with
+ * the new filter, so a source which grows all the time (like a log) doesn't
+ * restart the filter. Only a new comparator of the view or too many
+ * scattered changes start it again.<p>
+ *
+ * All methods must be called on the event dispatch thread and the filter
+ * of the view should only be changed with this class. If it isn't needed
+ * anymore, <code>close()</code> should be called to stop the own threads.
+ * <p>
+ *
+ * <b>Benötigte Klassen:</b><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.ListViewModelLight</code><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.ListModelLight</code>
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ListViewModelLight
+ */
+public final class ListFilterLight implements Closeable {
+
+	/**
+	 * The number of rows which are matched by one task.
+	 */
+	private static final int CHUNK_SIZE = 1 << 15;
+
+	/**
+	 * The number of rows after which a task checks if it's cancelled.
+	 */
+	private static final int CANCEL_CHECK_INTERVAL = 1 << 10;
+
+	/**
+	 * The minimal time in nanoseconds between two partial results.
+	 */
+	private static final long PUBLISH_INTERVAL = 40L * 1000L * 1000L;
+
+	/**
+	 * The maximal number of segments before the filter starts again.
+	 */
+	private static final int MAX_SEGMENTS = 1 << 10;
+
+	private final ListViewModelLight view;
+	private final ExecutorService executor;
+	private final boolean ownExecutor;
+
+	/**
+	 * Is increased with every new filter, so tasks of an older filter stop
+	 * and their results are dropped.
+	 */
+	private final AtomicInteger generation = new AtomicInteger();
+
+	private final List<Future<?>> tasks = new ArrayList<Future<?>>();
+
+	private Predicate<Object> filter = null;
+	private boolean running = Boolean.FALSE;
+
+	/*
+	 * The state of the running filter: the copied elements of the source
+	 * model, the comparator of the view and the matched rows per chunk. The
+	 * chunks before completed are matched, the chunks before published are
+	 * shown in the view.
+	 */
+	private Object[] snapshot = null;
+	private Comparator<Object> comparator = null;
+	private int[][] results = null;
+	private int completed = 0;
+	private int published = 0;
+	private long lastPublish = 0L;
+
+	/*
+	 * The source model as a sequence of segments: a range of the snapshot
+	 * (the start in the snapshot) or elements which were added or changed
+	 * since the snapshot was taken (start -1). The rows of the latter ones
+	 * are taken from the view.
+	 */
+	private final IntArrayListLight segmentStarts = new IntArrayListLight();
+	private final IntArrayListLight segmentLengths = new IntArrayListLight();
+	private boolean overflow = Boolean.FALSE;
+
+	private final ListDataListener sourceListener = new ListDataListener() {
+
+		@Override
+		public void contentsChanged(final ListDataEvent e) {
+
+			final int from = Math.min(e.getIndex0(), e.getIndex1());
+			final int to = Math.max(e.getIndex0(), e.getIndex1());
+			if (from < 0) { return; }
+
+			ListFilterLight.this.replaceSegments(from, to - from + 1, to - from + 1);
+		}
+
+		@Override
+		public void intervalAdded(final ListDataEvent e) {
+
+			final int from = Math.min(e.getIndex0(), e.getIndex1());
+			final int to = Math.max(e.getIndex0(), e.getIndex1());
+			ListFilterLight.this.replaceSegments(from, 0, to - from + 1);
+		}
+
+		@Override
+		public void intervalRemoved(final ListDataEvent e) {
+
+			final int from = Math.min(e.getIndex0(), e.getIndex1());
+			final int to = Math.max(e.getIndex0(), e.getIndex1());
+			ListFilterLight.this.replaceSegments(from, to - from + 1, 0);
+		}
+	};
+
+	/**
+	 * Creates a filter engine with an own thread pool, which has one
+	 * thread per processor.
+	 *
+	 * @param view the view which is filtered.
+	 */
+	public ListFilterLight(final ListViewModelLight view) {
+
+		this(view, Executors.newFixedThreadPool(
+				Runtime.getRuntime().availableProcessors(),
+				new ThreadFactory() {
+
+					@Override
+					public Thread newThread(final Runnable runnable) {
+
+						final Thread thread = new Thread(runnable, "ListFilterLight");
+						thread.setDaemon(Boolean.TRUE);
+
+						return thread;
+					}
+				}), Boolean.TRUE);
+	}
+
+	/**
+	 * Creates a filter engine which matches the rows with the specified
+	 * executor. The executor isn't shut down by <code>close()</code>.
+	 *
+	 * @param view the view which is filtered.
+	 * @param executor the executor which matches the rows.
+	 */
+	public ListFilterLight(final ListViewModelLight view, final ExecutorService executor) {
+
+		this(view, executor, Boolean.FALSE);
+	}
+
+	private ListFilterLight(
+			final ListViewModelLight view, final ExecutorService executor,
+			final boolean ownExecutor
+	) {
+		this.view = view;
+		this.executor = executor;
+		this.ownExecutor = ownExecutor;
+	}
+
+	/**
+	 * Cancels the running filter.
+	 */
+	private void cancel() {
+
+		generation.incrementAndGet();
+		for (final Future<?> task : tasks) { task.cancel(Boolean.FALSE); }
+		this.finish();
+	}
+
+	/**
+	 * Cancels the running filter and stops the own threads. An executor
+	 * which was passed to the constructor isn't shut down.
+	 */
+	@Override
+	public void close() {
+
+		this.cancel();
+		if (ownExecutor) { executor.shutdownNow(); }
+	}
+
+	/**
+	 * Returns <code>true</code> if the string contains the text, ignoring
+	 * the case.
+	 */
+	private static boolean containsIgnoreCase(final String string, final String text) {
+
+		final int max = string.length() - text.length();
+		for (int i = 0; i <= max; i++) {
+			if (string.regionMatches(Boolean.TRUE, i, text, 0, text.length())) { return Boolean.TRUE; }
+		}
+
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * Passes the result of a task to the event dispatch thread.
+	 */
+	private void deliver(
+			final int runGeneration, final int chunk, final int[] rows,
+			final RuntimeException failure
+	) {
+		SwingUtilities.invokeLater(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (runGeneration != generation.get()) { return; }
+				if (failure != null) {
+
+					ListFilterLight.this.cancel();
+					throw failure;
+				}
+
+				ListFilterLight.this.receive(chunk, rows);
+			}
+		});
+	}
+
+	private void finish() {
+
+		view.getSource().removeListDataListener(sourceListener);
+		segmentStarts.clear();
+		segmentLengths.clear();
+		tasks.clear();
+		running = Boolean.FALSE;
+		snapshot = null;
+		comparator = null;
+		results = null;
+	}
+
+	/**
+	 * Returns the index of the last value which is less than or equal to
+	 * the specified value, or -1.
+	 */
+	private static int floor(final int[] values, final int count, final int value) {
+
+		final int index = Arrays.binarySearch(values, 0, count, value);
+
+		return (index >= 0) ? index : -index - 2;
+	}
+
+	/**
+	 * Returns the current filter or <code>null</code>.
+	 *
+	 * @return the filter.
+	 */
+	public Predicate<Object> getFilter() { return filter; }
+
+	/**
+	 * Returns the view which is filtered.
+	 *
+	 * @return the view.
+	 */
+	public ListViewModelLight getView() { return view; }
+
+	/**
+	 * Returns <code>true</code> while the rows are matched and the view
+	 * doesn't show the complete result yet.
+	 *
+	 * @return <code>true</code> if a filter is running.
+	 */
+	public boolean isRunning() { return running; }
+
+	/**
+	 * Returns the rows from <code>fromIndex</code> (inclusive) to
+	 * <code>toIndex</code> (exclusive) which pass the filter, or
+	 * <code>null</code> if the filter was cancelled.
+	 */
+	private static int[] match(
+			final Object[] elements, final Predicate<Object> filter,
+			final int fromIndex, final int toIndex,
+			final int runGeneration, final AtomicInteger generation
+	) {
+		final int[] rows = new int[toIndex - fromIndex];
+		int count = 0;
+		for (int row = fromIndex; row < toIndex; row++) {
+
+			if ((row - fromIndex) % CANCEL_CHECK_INTERVAL == 0 && generation.get() != runGeneration) {
+				return null;
+			}
+			if (filter == null || filter.test(elements[row])) { rows[count++] = row; }
+		}
+
+		final int[] matched = new int[count];
+		System.arraycopy(rows, 0, matched, 0, count);
+
+		return matched;
+	}
+
+	/**
+	 * Shows the matched chunks in the view. Behind them the view keeps its
+	 * old rows until their chunks are matched.
+	 */
+	private void publish() {
+
+		final int matchedEnd = Math.min(snapshot.length, completed * CHUNK_SIZE);
+		int matchedRows = 0;
+		for (int c = 0; c < completed; c++) { matchedRows += results[c].length; }
+
+		final int[] matched = new int[matchedRows];
+		int m = 0;
+		for (int c = 0; c < completed; c++) {
+
+			System.arraycopy(results[c], 0, matched, m, results[c].length);
+			m += results[c].length;
+		}
+
+		// Without a comparator the view and the segments are ordered by the
+		// source index. The matched rows of a segment are moved to their
+		// current index, for all other rows the view is kept.
+		final int viewSize = view.getSize();
+		final int[] rows = new int[matchedRows + viewSize];
+		int r = 0;
+		int v = 0;
+		int offset = 0;
+		m = 0;
+		for (int i = 0; i < segmentStarts.getSize(); i++) {
+
+			final int start = segmentStarts.getInt(i);
+			final int length = segmentLengths.getInt(i);
+			int keepFrom = offset;
+			if (start >= 0) {
+
+				final int end = Math.min(start + length, matchedEnd);
+				while (m < matched.length && matched[m] < start) { m++; }
+				while (m < matched.length && matched[m] < end) { rows[r++] = offset + matched[m++] - start; }
+				keepFrom = offset + Math.max(0, end - start);
+			}
+
+			final int keepTo = offset + length;
+			while (v < viewSize && view.getSourceIndex(v) < keepFrom) { v++; }
+			while (v < viewSize && view.getSourceIndex(v) < keepTo) { rows[r++] = view.getSourceIndex(v++); }
+			offset = keepTo;
+		}
+
+		view.applyFilter(filter, Arrays.copyOf(rows, r));
+		published = completed;
+		lastPublish = System.nanoTime();
+	}
+
+	/**
+	 * Stores the matched rows of a chunk on the event dispatch thread and
+	 * publishes the result, if it's complete or enough time has passed.
+	 */
+	private void receive(final int chunk, final int[] rows) {
+
+		if (overflow || comparator != view.getComparator()) {
+
+			this.setFilter(filter);
+			return;
+		}
+
+		results[chunk] = rows;
+		while (completed < results.length && results[completed] != null) { completed++; }
+
+		if (comparator != null) {
+
+			if (completed == results.length) { this.sort(); }
+			return;
+		}
+
+		if (completed == results.length) {
+
+			this.publish();
+			this.finish();
+		}
+		else if (completed > published && System.nanoTime() - lastPublish >= PUBLISH_INTERVAL) {
+			this.publish();
+		}
+	}
+
+	/**
+	 * Replaces <code>removed</code> elements of the source model at the
+	 * specified index by <code>added</code> elements, which are taken from
+	 * the view.
+	 */
+	private void replaceSegments(final int index, final int removed, final int added) {
+
+		final int first = this.splitSegment(index);
+		final int end = this.splitSegment(index + removed);
+		for (int i = end - 1; i >= first; i--) {
+
+			segmentStarts.removeInt(i);
+			segmentLengths.removeInt(i);
+		}
+		if (added > 0) {
+
+			segmentStarts.addInt(first, -1);
+			segmentLengths.addInt(first, added);
+		}
+
+		// Neighbouring segments of the view are joined.
+		for (int i = segmentStarts.getSize() - 1; i > 0; i--) {
+
+			if (segmentStarts.getInt(i) < 0 && segmentStarts.getInt(i - 1) < 0) {
+
+				segmentLengths.replace(i - 1, segmentLengths.getInt(i - 1) + segmentLengths.getInt(i));
+				segmentStarts.removeInt(i);
+				segmentLengths.removeInt(i);
+			}
+		}
+
+		if (segmentStarts.getSize() > MAX_SEGMENTS) { overflow = Boolean.TRUE; }
+	}
+
+	/**
+	 * Filters the view with the specified filter on the background threads.
+	 * With <code>null</code> all elements are shown. A running filter is
+	 * cancelled.
+	 *
+	 * @param filter the filter or <code>null</code>.
+	 */
+	public void setFilter(final Predicate<Object> filter) {
+
+		this.cancel();
+		this.filter = filter;
+
+		// The snapshot must contain the changes which the view has seen,
+		// coalesced changes are reported first.
+		final ListModelLight source = view.getSource();
+		source.flush();
+		snapshot = source.getElements();
+		comparator = view.getComparator();
+		results = new int[Math.max(1, (snapshot.length + CHUNK_SIZE - 1) / CHUNK_SIZE)][];
+		completed = 0;
+		published = 0;
+		lastPublish = System.nanoTime();
+		running = Boolean.TRUE;
+
+		overflow = Boolean.FALSE;
+		if (snapshot.length > 0) {
+
+			segmentStarts.addInt(0);
+			segmentLengths.addInt(snapshot.length);
+		}
+		source.addListDataListener(sourceListener);
+		view.setPendingFilter(filter);
+
+		final Object[] elements = snapshot;
+		final int runGeneration = generation.get();
+		final int chunks = results.length;
+		for (int c = 0; c < chunks && running; c++) {
+
+			final int chunk = c;
+			this.submit(new Runnable() {
+
+				@Override
+				public void run() {
+
+					final int fromIndex = chunk * CHUNK_SIZE;
+					final int toIndex = Math.min(elements.length, fromIndex + CHUNK_SIZE);
+					int[] rows = null;
+					RuntimeException failure = null;
+					try {
+						rows = match(elements, filter, fromIndex, toIndex, runGeneration, generation);
+					} catch (final RuntimeException e) {
+						failure = e;
+					}
+
+					if (rows != null || failure != null) {
+						ListFilterLight.this.deliver(runGeneration, chunk, rows, failure);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Filters the view with the elements which contain the query in their
+	 * <code>toString()</code> value (or the string from the
+	 * <code>DisplayKeyCacheLight</code> of the source model), ignoring the
+	 * case. With an empty query all elements are shown.
+	 *
+	 * @param query the query or <code>null</code>.
+	 */
+	public void setQuery(final String query) {
+
+		if (query == null || query.isEmpty()) {
+
+			this.setFilter(null);
+			return;
+		}
+
+		final DisplayKeyCacheLight displayKeys = view.getSource().getDisplayKeyCache();
+		this.setFilter(new Predicate<Object>() {
+
+			@Override
+			public boolean test(final Object element) {
+
+				if (element == null) { return Boolean.FALSE; }
+
+				final String string = (displayKeys != null)
+						? displayKeys.getKey(element) : element.toString();
+
+				return string != null && containsIgnoreCase(string, query);
+			}
+		});
+	}
+
+	/**
+	 * Sorts the matched rows on the executor like the view and shows them.
+	 */
+	private void sort() {
+
+		final Object[] elements = snapshot;
+		final Comparator<Object> c = comparator;
+		final int[][] chunks = results;
+		final int runGeneration = generation.get();
+		this.submit(new Runnable() {
+
+			@Override
+			public void run() {
+
+				int count = 0;
+				for (final int[] chunk : chunks) { count += chunk.length; }
+
+				final Integer[] sorted = new Integer[count];
+				int r = 0;
+				for (final int[] chunk : chunks) {
+					for (final int row : chunk) { sorted[r++] = row; }
+				}
+
+				int[] sortedRows = null;
+				RuntimeException sortFailure = null;
+				try {
+					ArrayListLight.sort(sorted, 0, count, new Comparator<Integer>() {
+
+						@Override
+						public int compare(final Integer row1, final Integer row2) {
+
+							final int result = c.compare(elements[row1], elements[row2]);
+							if (result != 0) { return result; }
+
+							return row1.compareTo(row2);
+						}
+					});
+
+					sortedRows = new int[count];
+					for (int i = 0; i < count; i++) { sortedRows[i] = sorted[i]; }
+				} catch (final RuntimeException e) {
+					sortFailure = e;
+				}
+
+				if (generation.get() != runGeneration) { return; }
+				final int[] rows = sortedRows;
+				final RuntimeException failure = sortFailure;
+				SwingUtilities.invokeLater(new Runnable() {
+
+					@Override
+					public void run() {
+
+						if (runGeneration != generation.get()) { return; }
+						if (failure != null) {
+
+							ListFilterLight.this.cancel();
+							throw failure;
+						}
+						if (overflow || comparator != view.getComparator()) {
+
+							ListFilterLight.this.setFilter(filter);
+							return;
+						}
+
+						view.applyFilter(filter, ListFilterLight.this.translate(rows));
+						ListFilterLight.this.finish();
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Starts a new segment at the specified index of the source model and
+	 * returns its position in the segments.
+	 */
+	private int splitSegment(final int index) {
+
+		int offset = 0;
+		for (int i = 0; i < segmentLengths.getSize(); i++) {
+
+			final int length = segmentLengths.getInt(i);
+			if (index == offset) { return i; }
+			if (index < offset + length) {
+
+				final int start = segmentStarts.getInt(i);
+				final int head = index - offset;
+				segmentLengths.replace(i, head);
+				segmentStarts.addInt(i + 1, (start < 0) ? -1 : start + head);
+				segmentLengths.addInt(i + 1, length - head);
+
+				return i + 1;
+			}
+			offset += length;
+		}
+
+		return segmentLengths.getSize();
+	}
+
+	private void submit(final Runnable task) {
+
+		try {
+			tasks.add(executor.submit(task));
+		} catch (final RejectedExecutionException e) {
+			this.cancel();
+		}
+	}
+
+	/**
+	 * Moves the sorted rows of the snapshot to their current index and
+	 * merges them with the rows of the view for the added and changed
+	 * elements, ordered by the comparator and then by the index.
+	 */
+	private int[] translate(final int[] sortedRows) {
+
+		final int segments = segmentStarts.getSize();
+		final int[] snapshotStarts = new int[segments];
+		final int[] snapshotOffsets = new int[segments];
+		final int[] snapshotLengths = new int[segments];
+		final int[] viewOffsets = new int[segments];
+		final int[] viewLengths = new int[segments];
+		int snapshotSegments = 0;
+		int viewSegments = 0;
+		int offset = 0;
+		for (int i = 0; i < segments; i++) {
+
+			final int start = segmentStarts.getInt(i);
+			final int length = segmentLengths.getInt(i);
+			if (start >= 0) {
+
+				snapshotStarts[snapshotSegments] = start;
+				snapshotOffsets[snapshotSegments] = offset;
+				snapshotLengths[snapshotSegments++] = length;
+			}
+			else {
+				viewOffsets[viewSegments] = offset;
+				viewLengths[viewSegments++] = length;
+			}
+			offset += length;
+		}
+
+		// Rows of removed elements are dropped.
+		final int[] moved = new int[sortedRows.length];
+		final int[] movedFrom = new int[sortedRows.length];
+		int t = 0;
+		for (final int row : sortedRows) {
+
+			final int s = floor(snapshotStarts, snapshotSegments, row);
+			if (s >= 0 && row < snapshotStarts[s] + snapshotLengths[s]) {
+
+				movedFrom[t] = row;
+				moved[t++] = snapshotOffsets[s] + row - snapshotStarts[s];
+			}
+		}
+
+		final IntArrayListLight added = new IntArrayListLight();
+		for (int i = 0; i < view.getSize() && viewSegments > 0; i++) {
+
+			final int sourceIndex = view.getSourceIndex(i);
+			final int s = floor(viewOffsets, viewSegments, sourceIndex);
+			if (s >= 0 && sourceIndex < viewOffsets[s] + viewLengths[s]) { added.addInt(i); }
+		}
+
+		final int[] rows = new int[t + added.getSize()];
+		int a = 0;
+		int r = 0;
+		int m = 0;
+		while (m < t && a < added.getSize()) {
+
+			final int viewIndex = added.getInt(a);
+			final int sourceIndex = view.getSourceIndex(viewIndex);
+			int result = comparator.compare(snapshot[movedFrom[m]], view.getElementAt(viewIndex));
+			if (result == 0) { result = (moved[m] < sourceIndex) ? -1 : 1; }
+
+			if (result < 0) {
+				rows[r++] = moved[m++];
+			}
+			else {
+				rows[r++] = sourceIndex;
+				a++;
+			}
+		}
+		while (m < t) { rows[r++] = moved[m++]; }
+		while (a < added.getSize()) { rows[r++] = view.getSourceIndex(added.getInt(a++)); }
+
+		return rows;
+	}
+}
@@ -23,10 +23,13 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.util.Arrays;
+import java.util.Comparator;
 
 import javax.swing.BorderFactory;
 import javax.swing.JList;
+import javax.swing.ListModel;
 import javax.swing.SwingConstants;
+import javax.swing.text.Position;
 
 /**
  * A component that allows the user to select one or more objects from a
@@ -43,7 +46,9 @@ import javax.swing.SwingConstants;
  * <p>
  * 
  * <b>Benötigte Klassen:</b><br>
- *  - <code>com.github.naoghuman.lib.java.light.swing.ListModelLight</code>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.ListModelLight</code><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.PrefixIndexLight</code><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.ListCellRendererLight</code>
  * 
  * @author Naoghuman (Peter Rogge) | Copyright (c) | 08.10.2006
  * @version 1.0
@@ -80,6 +85,12 @@ public final class ListLight extends JList {
 	
 	private ListModelLight proListModel = null;
 	
+	/**
+	 * Der Index für die Suche per Tastatur, wird erst bei der ersten Suche
+	 * erzeugt.
+	 */
+	private transient PrefixIndexLight prefixIndex = null;
+	
 	/**
 	 * Konstruktor für die Initialisierung der Klasse <code>PRoList</code>.
 	 * Als Defaultwerte wird das <code>erste Element</code> der übergebenen
@@ -154,6 +165,55 @@ public final class ListLight extends JList {
 		this.init(data, value, font, mode, width, row);
 	}
 
+	/**
+	 * Konstruktor für die Initialisierung der Klasse <code>ListLight</code>
+	 * mit einem <code>VirtualListModelLight</code>. Die Zeilen werden erst
+	 * geladen, wenn sie angezeigt werden; bis dahin wird der Platzhalter
+	 * des Models dargestellt. Dank der festen Zeilenhöhe und -weite muss
+	 * die Liste keine Zeile vermessen.
+	 * <p>
+	 * Die Liste kann nur angezeigt werden, die verändernden Methoden werfen
+	 * eine <code>UnsupportedOperationException</code>.
+	 * 
+	 * @param model		das virtuelle Model der Liste.
+	 * @param font		die Darstellungsschrift der Elemente.
+	 * @param mode 		Selektionsmodus der Liste.
+	 * @param width		die Weite der Liste.
+	 * @param row		die Anzahl der sichtbaren Zeilen.
+	 */
+	public ListLight(
+			final VirtualListModelLight model,
+			final Font font, final byte mode, final int width, final int row
+	) {
+		super();
+		
+		this.init(model, font, mode, width, row);
+	}
+
+	/**
+	 * Konstruktor für die Initialisierung der Klasse <code>ListLight</code>
+	 * mit einem <code>ListViewModelLight</code>. Die Liste zeigt die
+	 * gefilterten und sortierten Elemente der View, die verändernden
+	 * Methoden arbeiten auf dem <code>ListModelLight</code> der View.
+	 * Gefiltert werden kann die Liste z.B. mit einem
+	 * <code>ListFilterLight</code> im Hintergrund.
+	 * 
+	 * @param view		die View der Liste.
+	 * @param font		die Darstellungsschrift der Elemente.
+	 * @param mode 		Selektionsmodus der Liste.
+	 * @param width		die Weite der Liste.
+	 * @param row		die Anzahl der sichtbaren Zeilen.
+	 */
+	public ListLight(
+			final ListViewModelLight view,
+			final Font font, final byte mode, final int width, final int row
+	) {
+		super();
+		
+		proListModel = view.getSource();
+		this.init(view, font, mode, width, row);
+	}
+
 	/**
 	 * Testet, ob das übergebene Element in der Liste vorhanden ist.
 	 * 
@@ -163,49 +223,86 @@ public final class ListLight extends JList {
 	 */
 	public final boolean contain(final Object element) {
 		
-		return proListModel.contains(element);
+		return this.getListModelLight().contains(element);
 	}
 
 	/**
-	 * Es wird ein neues Element der Liste hinzugefügt.
+	 * Es wird ein neues Element der Liste hinzugefügt. Das Element wird
+	 * per binärer Suche an der sortierten Position eingefügt.
 	 * 
 	 * @param element das neue Element.
 	 */
 	public final void addElement(final Object element) {
 		
-		proListModel.add(element);
-		if (this.getLength() == ONE) {  return; }
-		
-		proListModel.sort();
+		this.getListModelLight().addSorted(element);
 	}
 	
 	/**
-	 * Es werden neue Element der Liste hinzugefügt.
+	 * Es werden neue Element der Liste hinzugefügt. Nur die neuen Elemente
+	 * werden sortiert und danach in die bereits sortierte Liste
+	 * eingemischt.
 	 * 
 	 * @param elements die neue Elemente.
 	 */
 	public final void addElements(final Object[] elements) {
 		
-		if (this.getLength() == ZERO) {
-
-			Arrays.sort(elements);
-			proListModel.add(elements);
-			
-			return;
-		}
-		
-		proListModel.add(elements);
-		proListModel.sort();
+		this.getListModelLight().addSorted(elements);
 	}
 	
 	@Override
 	public void paint(Graphics g) {
+		// Das virtuelle Model lädt die Seiten in Richtung der ersten
+		// sichtbaren Zeile voraus.
+		final ListModel model = super.getModel();
+		if (model instanceof VirtualListModelLight) {
+			((VirtualListModelLight) model).setVisibleRange(
+					super.getFirstVisibleIndex(), super.getLastVisibleIndex());
+		}
+		
 		Graphics2D g2D = (Graphics2D)g.create();
 		g2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
 				RenderingHints.VALUE_ANTIALIAS_ON);
 		super.paint(g2D);
 	}
 	
+	/**
+	 * Setzt den <code>Comparator</code>, nach dem die Elemente der Liste
+	 * sortiert werden, und sortiert die Liste neu. Mit <code>null</code>
+	 * werden die Elemente nach ihrer <i>natürlichen Ordnung</i> sortiert.
+	 * 
+	 * @param comparator der <code>Comparator</code> oder <code>null</code>.
+	 */
+	public final void setComparator(final Comparator<Object> comparator) {
+		
+		this.getListModelLight().sort(comparator);
+	}
+
+	/**
+	 * Setzt einen Cache für die Texte der Elemente. Die Suche per Tastatur
+	 * und ein <code>ListFilterLight</code> verwenden dann die gecachten
+	 * Texte, anstatt <code>toString()</code> immer wieder aufzurufen. Mit
+	 * {@link DisplayKeyCacheLight#getComparator()} kann die Liste nach den
+	 * Texten sortiert werden.
+	 * 
+	 * @param displayKeys der Cache oder <code>null</code>.
+	 */
+	public final void setDisplayKeyCache(final DisplayKeyCacheLight displayKeys) {
+		
+		this.getListModelLight().setDisplayKeyCache(displayKeys);
+	}
+
+	/**
+	 * Aktiviert oder deaktiviert einen Hash-Index für <code>contain(Object)</code>
+	 * und <code>remove(Object)</code>. Mit dem Index wird ein Element in
+	 * konstanter Zeit gefunden, anstatt die ganze Liste zu durchsuchen.
+	 *
+	 * @param indexed <code>true</code>, um den Index zu aktivieren.
+	 */
+	public final void setIndexed(final boolean indexed) {
+
+		this.getListModelLight().setIndexed(indexed);
+	}
+
 	/**
 	 * Liefert das Element an der Stelle <code>index</code>.
 	 * 
@@ -214,7 +311,7 @@ public final class ListLight extends JList {
 	 */
 	public final Object getElementAt(final int index) {
 		
-		return proListModel.getElementAt(index);
+		return super.getModel().getElementAt(index);
 	}
 	
 	/**
@@ -224,15 +321,49 @@ public final class ListLight extends JList {
 	 */
 	public final Object[] getElements() {
 		
-		return proListModel.getElements();
+		return this.getListModelLight().getElements();
 	}
 
+	/**
+	 * Liefert den Index des nächsten Elements, das mit dem übergebenen
+	 * Präfix beginnt (ohne Beachtung der Groß-/Kleinschreibung). Anders
+	 * als in <code>JList</code> werden nicht alle Elemente durchsucht,
+	 * sondern ein <code>PrefixIndexLight</code> verwendet, der mit dem
+	 * Model der Liste synchron gehalten wird. Sind die Elemente nach ihrem
+	 * Text sortiert, wird direkt binär in der Liste gesucht.
+	 * <p>
+	 * Ein <code>VirtualListModelLight</code> wird wie in <code>JList</code>
+	 * durchsucht.
+	 * 
+	 * @param prefix		der zu suchende Präfix.
+	 * @param startIndex	der Index, ab dem gesucht wird.
+	 * @param bias			die Suchrichtung.
+	 * @return der Index des nächsten passenden Elements oder -1.
+	 */
+	@Override
+	public final int getNextMatch(
+			final String prefix, final int startIndex, final Position.Bias bias
+	) {
+		final ListModel model = super.getModel();
+		if (model instanceof VirtualListModelLight) {
+			return super.getNextMatch(prefix, startIndex, bias);
+		}
+		
+		if (prefixIndex == null || prefixIndex.getModel() != model) {
+			
+			if (prefixIndex != null) { prefixIndex.close(); }
+			prefixIndex = new PrefixIndexLight(model);
+		}
+		
+		return prefixIndex.getNextMatch(prefix, startIndex, bias);
+	}
+	
     /**
 	 * Liefert die Anzahl der Elemente in der Liste.
 	 * 
 	 * @return Anzahl der Elemente.
 	 */
-    public final int getLength() { return proListModel.getSize(); }
+    public final int getLength() { return super.getModel().getSize(); }
     
     /* (non-Javadoc)
      * @see javax.swing.JList#getScrollableUnitIncrement(
@@ -274,15 +405,44 @@ public final class ListLight extends JList {
                         );
     }
 	
+	/**
+	 * Liefert das <code>ListModelLight</code> dieser Liste.
+	 * 
+	 * @exception UnsupportedOperationException, wenn die Liste ein
+	 * <code>VirtualListModelLight</code> anzeigt.
+	 */
+	private ListModelLight getListModelLight() {
+		
+		if (proListModel == null) {
+			throw new UnsupportedOperationException(
+					"The list shows a VirtualListModelLight.");
+		}
+		
+		return proListModel;
+	}
+	
 	private void init(
 			final Object[] data, final Object value,
 			final Font font, final byte mode, final int width, int row
 	) {
-		this.checkMode(mode);
-		
 		proListModel = new ListModelLight(data);
 		
-		super.setModel(proListModel);
+		this.init(proListModel, font, mode, width, row);
+	
+		if (data != null && data.length > ZERO) {
+
+			super.setSelectedValue(value, Boolean.TRUE);
+		}
+	}
+	
+	private void init(
+			final ListModel model,
+			final Font font, final byte mode, final int width, int row
+	) {
+		this.checkMode(mode);
+		
+		super.setModel(model);
+		super.setCellRenderer(new ListCellRendererLight());
 		super.setBorder(BorderFactory.createEmptyBorder(
 				FIVE, FIVE, FIVE, FIVE
 				));
@@ -290,12 +450,6 @@ public final class ListLight extends JList {
 		super.setFixedCellHeight(super.getFont().getSize() + THREE);
 		super.setFixedCellWidth(width);
 		super.setLayoutOrientation(VERTICAL);
-	
-		if (data != null && data.length > ZERO) {
-
-			super.setSelectedValue(value, Boolean.TRUE);
-		}
-		
 		super.setSelectionMode(mode);
 		super.setVisibleRowCount(row);
 	}
@@ -325,25 +479,43 @@ public final class ListLight extends JList {
 	 */
 	public final Object remove(final Object element) {
 		
-		return proListModel.remove(element);
+		return this.getListModelLight().remove(element);
 	}
 	
 	/**
 	 * Entfernt alle Elemente dieser Liste.
 	 */
-	public final void removeAll() { proListModel.removeAll(); }
+	public final void removeAll() { this.getListModelLight().removeAll(); }
 	
 	/**
      * Es werden alle selektierten Elemente der Liste entfernt.
      * Liefert die entfernte Elemente.
+     * <p>
+     * Die Elemente werden über ihre Indizes in einem Durchgang entfernt,
+     * pro zusammenhängendem Bereich wird nur ein Event gefeuert. Die
+     * Selektion wird vorher aufgehoben, damit das
+     * <code>ListSelectionModel</code> die Events nicht einzeln
+     * nachführen muss. Zeigt die Liste ein <code>ListViewModelLight</code>,
+     * werden die Elemente aus dem <code>ListModelLight</code> der View
+     * entfernt.
      * 
      * @return entfernte Elemente.
      */
 	public final Object[] removeSelection() {
 		
-		final Object[] removed = super.getSelectedValues();
-		for (final Object obj: removed) { proListModel.remove(obj); }
+		final int[] indices = super.getSelectedIndices();
+		super.clearSelection();
+		
+		final ListModel model = super.getModel();
+		if (model instanceof ListViewModelLight) {
+			
+			final ListViewModelLight view = (ListViewModelLight) model;
+			for (int i = ZERO; i < indices.length; i++) {
+				indices[i] = view.getSourceIndex(indices[i]);
+			}
+			Arrays.sort(indices);
+		}
 		
-		return removed;
+		return this.getListModelLight().remove(indices);
 	}
 }
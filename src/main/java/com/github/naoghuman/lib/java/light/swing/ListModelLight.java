@@ -17,8 +17,16 @@
 package com.github.naoghuman.lib.java.light.swing;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
 
 import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 
 
 
@@ -38,7 +46,87 @@ public final class ListModelLight extends AbstractListModel {
 
 	private static final long serialVersionUID = -5535671028659674241L;
 
-	private ArrayListLight<Object> palElements = null;
+	/**
+	 * Compares the elements by their <i>natural ordering</i>. All elements
+	 * must implement the <code>Comparable</code> interface.
+	 */
+	private static final Comparator<Object> NATURAL_ORDER = new Comparator<Object>() {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public int compare(final Object o1, final Object o2) {
+
+			return ((Comparable<Object>) o1).compareTo(o2);
+		}
+	};
+
+	/**
+	 * If a bulk operation produces more separate intervals than this value,
+	 * the listeners are informed with one <code>intervalAdded</code> and one
+	 * <code>contentsChanged</code> event instead of one event per interval.
+	 */
+	private static final int MAX_INTERVAL_EVENTS = 64;
+
+	/**
+	 * The list which contains the elements. Normally a
+	 * <code>ArrayListLight</code>, but every other <code>List</code> can be
+	 * used (see {@link #forList(List)}).
+	 */
+	private List<Object> palElements = null;
+
+	/**
+	 * Flag if <code>palElements</code> was passed to
+	 * <code>forList(List)</code>. Such a list (for example a
+	 * <code>RingBufferListLight</code>) is changed in place and never
+	 * replaced by an own list.
+	 */
+	private boolean wrapped = Boolean.FALSE;
+
+	private Comparator<Object> comparator = null;
+
+	/**
+	 * Flag if the hash index of the <code>ArrayListLight</code> is used.
+	 */
+	private boolean indexed = Boolean.FALSE;
+
+	/**
+	 * Flag if the elements from this list are ordered by the
+	 * <code>comparator</code>.
+	 */
+	private boolean sorted = Boolean.TRUE;
+
+	/**
+	 * The size of this list like the listeners know it from the events.
+	 */
+	private int eventSize = 0;
+
+	/**
+	 * Counts the changes of this list, every fired event is one change.
+	 */
+	private int stamp = 0;
+
+	/**
+	 * Flag if further events of the same change follow the current event.
+	 */
+	private boolean changing = Boolean.FALSE;
+
+	/**
+	 * The optional cache for the display strings of the elements.
+	 */
+	private transient DisplayKeyCacheLight displayKeys = null;
+
+	private boolean coalescing = Boolean.FALSE;
+	private boolean flushScheduled = Boolean.FALSE;
+
+	/*
+	 * The pending change in coalescing mode: compared with the state after
+	 * the last flush (with pendingSize elements), only the elements from
+	 * pendingLow to the last pendingSuffix elements are changed.
+	 * pendingLow is -1 if no change is pending.
+	 */
+	private int pendingLow = -1;
+	private int pendingSuffix = 0;
+	private int pendingSize = 0;
 
 	/**
 	 * Standard-Konstruktor der Klasse <code>PRoListModel</code>.
@@ -59,6 +147,40 @@ public final class ListModelLight extends AbstractListModel {
 		if (elements != null) { this.add(elements); };
 	}
 
+	/**
+	 * Erzeugt ein <code>ListenModel</code>, das eine vorhandene Liste
+	 * anzeigt. Die Elemente werden nicht kopiert, die Liste wird direkt
+	 * verwendet. So kann z.B. eine <code>MappedFileListLight</code>
+	 * angezeigt werden, ohne die Datei einzulesen. Wächst eine
+	 * <code>MappedFileListLight</code> während sie indiziert wird, werden die
+	 * neuen Datensätze mit einem <code>intervalAdded</code>-Event gemeldet.
+	 * Ist die Liste nicht veränderbar, werfen die verändernden Methoden eine
+	 * <code>UnsupportedOperationException</code>.
+	 * 
+	 * @param elements die Liste mit den Daten des <code>ListenModels</code>.
+	 * @return das neue <code>ListenModel</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public static ListModelLight forList(final List<?> elements) {
+
+		final ListModelLight model = new ListModelLight();
+		model.palElements = (List<Object>) elements;
+		model.wrapped = Boolean.TRUE;
+		model.sorted = (elements.size() <= 1);
+		model.eventSize = elements.size();
+
+		if (elements instanceof MappedFileListLight) {
+
+			((MappedFileListLight<?>) elements).addChangeListener(new ChangeListener() {
+
+				@Override
+				public void stateChanged(final ChangeEvent e) { model.grown(elements); }
+			});
+		}
+
+		return model;
+	}
+
 	/**
 	 * Inserts the specified element at the specified position in this list.
 	 * <p>
@@ -71,7 +193,8 @@ public final class ListModelLight extends AbstractListModel {
 	public final void add(final int index, final Object element) {
 
 		palElements.add(index, element);
-		super.fireIntervalAdded(this, index, index);
+		sorted = Boolean.FALSE;
+		this.fireIntervalAdded(this, index, index);
 	}
 	
 	/**
@@ -81,22 +204,290 @@ public final class ListModelLight extends AbstractListModel {
 	 */
 	public final void add(final Object element) {
 
+		if (palElements instanceof RingBufferListLight) {
+
+			this.addToRingBuffer(new Object[] { element });
+			return;
+		}
+
 		palElements.add(element);
-		final int index = palElements.getSize() - 1;
-		super.fireIntervalAdded(this, index, index);
+		final int index = palElements.size() - 1;
+		sorted = Boolean.FALSE;
+		this.fireIntervalAdded(this, index, index);
+	}
+
+	/**
+	 * Inserts the specified element at the position which keeps this list
+	 * sorted according to the comparator (see {@link #setComparator}).
+	 * The position is located with a binary search, so only the elements
+	 * behind the new element are shifted and the registered listeners are
+	 * informed with one single event <code>intervalAdded(index, index)</code>.
+	 * <p>
+	 * If this list isn't sorted (because elements were added with one of the
+	 * unsorted <code>add</code> methods), it will be sorted first.
+	 *
+	 * @param element to be inserted.
+	 * @return the index at which the element was inserted.
+	 */
+	public final int addSorted(final Object element) {
+
+		if (!sorted) { this.sort(); }
+
+		final int index = this.getInsertionIndex(element, this.getSortComparator());
+		palElements.add(index, element);
+		this.fireIntervalAdded(this, index, index);
+
+		return index;
+	}
+
+	/**
+	 * Inserts the specified <code>elements</code> at the specified position
+	 * in this list. All registered listeners are informed with one single
+	 * event <code>intervalAdded(index, index + elements.length - 1)</code>.
+	 * <p>
+	 * Throws an <code>IndexOutOfBoundsException</code> if the index is
+	 * out of range (<code>index &lt; 0 || index &gt; getSize()</code>).
+	 *
+	 * @param index index at which the first element is to be inserted.
+	 * @param elements to be inserted.
+	 */
+	public final void add(final int index, final Object[] elements) {
+
+		if (palElements instanceof RingBufferListLight && index == palElements.size()) {
+
+			this.addToRingBuffer(elements);
+			return;
+		}
+
+		final boolean changed = (palElements instanceof ArrayListLight)
+				? ((ArrayListLight<Object>) palElements).addAll(index, elements)
+				: palElements.addAll(index, Arrays.asList(elements));
+		if (changed) {
+
+			sorted = Boolean.FALSE;
+			this.fireIntervalAdded(this, index, index + elements.length - 1);
+		}
 	}
 
 	/**
 	 * Inserts the specified <code>elements</code> to the end of this list.
-	 * 
+	 * All registered listeners are informed with one single event.
+	 * <p>
+	 * If this model shows a <code>RingBufferListLight</code> the evicted
+	 * elements are reported with one additional
+	 * <code>intervalRemoved(0, evicted - 1)</code> event, which is fired
+	 * before the <code>intervalAdded</code> event.
+	 *
 	 * @param elements to be inserted.
 	 */
 	public final void add(final Object[] elements) {
 
-		for (int index = 0; index < elements.length; index++) {
+		this.add(palElements.size(), elements);
+	}
 
-			palElements.add(elements[index]);
-			super.fireIntervalAdded(this, index, index);
+	/**
+	 * Inserts the specified <code>elements</code> at the positions which keep
+	 * this list sorted according to the comparator. Only the new elements
+	 * are sorted (in parallel for large arrays), then they are merged in
+	 * linear time into the already sorted list. The array itself won't be
+	 * modified.
+	 * <p>
+	 * The listeners are informed with one <code>intervalAdded</code> event
+	 * per contiguous run of new elements. If there are too many runs, one
+	 * <code>intervalAdded</code> event for the grown end of the list and one
+	 * <code>contentsChanged</code> event for the shifted part are fired
+	 * instead.
+	 * <p>
+	 * If this list isn't sorted, it will be sorted first.
+	 *
+	 * @param elements to be inserted.
+	 */
+	public final void addSorted(final Object[] elements) {
+
+		if (elements.length == 0) { return; }
+		if (!sorted) { this.sort(); }
+
+		final Comparator<Object> c = this.getSortComparator();
+		final Object[] batch = elements.clone();
+		ArrayListLight.sort(batch, 0, batch.length, c);
+
+		final int oldSize = palElements.size();
+		final int[] indices;
+		if (palElements instanceof ArrayListLight) {
+			indices = ((ArrayListLight<Object>) palElements).addAllSorted(batch, c);
+		}
+		else {
+
+			// Ascending, so the index of every inserted element is final.
+			indices = new int[batch.length];
+			for (int i = 0; i < batch.length; i++) {
+
+				indices[i] = this.getInsertionIndex(batch[i], c);
+				palElements.add(indices[i], batch[i]);
+			}
+		}
+
+		int runs = 1;
+		for (int i = 1; i < indices.length; i++) {
+			if (indices[i] != indices[i - 1] + 1) { runs++; }
+		}
+
+		if (runs > MAX_INTERVAL_EVENTS) {
+
+			try {
+				changing = (indices[0] < oldSize);
+				this.fireIntervalAdded(this, oldSize, oldSize + indices.length - 1);
+				changing = Boolean.FALSE;
+				if (indices[0] < oldSize) {
+					this.fireContentsChanged(this, indices[0], oldSize - 1);
+				}
+			} finally {
+				changing = Boolean.FALSE;
+			}
+
+			return;
+		}
+
+		int first = 0;
+		for (int i = 1; i <= indices.length; i++) {
+
+			if (i == indices.length || indices[i] != indices[i - 1] + 1) {
+
+				this.fireIntervalAdded(this, indices[first], indices[i - 1]);
+				first = i;
+			}
+		}
+	}
+
+	/**
+	 * Appends the elements to the <code>RingBufferListLight</code> and fires
+	 * one event for the evicted and one for the visible new elements.
+	 */
+	private final void addToRingBuffer(final Object[] elements) {
+
+		if (elements.length == 0) { return; }
+
+		final RingBufferListLight<Object> ring = (RingBufferListLight<Object>) palElements;
+		final int oldSize = ring.getSize();
+		final int evicted = ring.addAll(elements);
+		final int added = Math.min(elements.length, ring.getLength());
+		sorted = Boolean.FALSE;
+
+		if (evicted > 0) {
+			this.fireIntervalRemoved(this, 0, evicted - 1);
+		}
+		this.fireIntervalAdded(this, oldSize - evicted, oldSize - evicted + added - 1);
+	}
+
+	/**
+	 * Applies the changes from the change set, which was created with
+	 * {@link #createChangeSet()} and built on a worker thread. If the change
+	 * set isn't prepared yet, it is prepared now. Then the new array of
+	 * elements only replaces the old one, so this method doesn't copy the
+	 * elements and its costs depend only on the number of changed runs.
+	 * The elements are stored in an <code>ArrayListLight</code> afterwards,
+	 * so a list shown with <code>forList(List)</code> can't be changed with a
+	 * change set.
+	 * <p>
+	 * The listeners are informed per changed run with one
+	 * <code>contentsChanged</code> event for the replaced elements and one
+	 * <code>intervalAdded</code> or <code>intervalRemoved</code> event for
+	 * the rest, from the first run to the last. If there are too many runs,
+	 * at most one event of each kind is fired for the range from the first
+	 * to the last run.
+	 *
+	 * @param changeSet the changes for this model.
+	 * @throws IllegalArgumentException if the change set was created by
+	 *         another model.
+	 * @throws IllegalStateException if this model shows a list from
+	 *         <code>forList(List)</code>.
+	 * @throws ConcurrentModificationException if this model was changed
+	 *         after the change set was created.
+	 */
+	public final void apply(final ListChangeSetLight changeSet) {
+
+		this.checkNotWrapped();
+		if (changeSet.getModel() != this) {
+			throw new IllegalArgumentException("The change set belongs to another model.");
+		}
+		if (changeSet.getStamp() != stamp) {
+			throw new ConcurrentModificationException(
+					"The model was changed after the change set was created.");
+		}
+		if (changeSet.isEmpty()) { return; }
+
+		changeSet.prepare();
+		final Object[] elements = changeSet.getResult();
+		final ArrayListLight<Object> newElements = new ArrayListLight<Object>(elements, elements.length);
+		newElements.setIndexed(indexed);
+		palElements = newElements;
+		sorted = (elements.length <= 1);
+
+		final int[] runs = changeSet.getRuns();
+		final int runCount = changeSet.getRunCount();
+		try {
+			if (runCount > MAX_INTERVAL_EVENTS) {
+
+				final int oldSize = changeSet.getSize();
+				final int low = runs[0];
+				final int last = (runCount - 1) * 3;
+				final int suffix = oldSize - runs[last] - runs[last + 1];
+				final int oldHigh = oldSize - suffix - 1;
+				final int newHigh = elements.length - suffix - 1;
+				if (low <= Math.min(oldHigh, newHigh)) {
+
+					changing = (oldHigh != newHigh);
+					this.fireContentsChanged(this, low, Math.min(oldHigh, newHigh));
+				}
+				changing = Boolean.FALSE;
+				if (newHigh > oldHigh) {
+					this.fireIntervalAdded(this, oldHigh + 1, newHigh);
+				}
+				else if (oldHigh > newHigh) {
+					this.fireIntervalRemoved(this, newHigh + 1, oldHigh);
+				}
+
+				return;
+			}
+
+			int offset = 0;
+			for (int i = 0; i < runCount * 3; i += 3) {
+
+				final boolean lastRun = (i + 3 == runCount * 3);
+				final int index = runs[i] + offset;
+				final int oldCount = runs[i + 1];
+				final int newCount = runs[i + 2];
+				final int changed = Math.min(oldCount, newCount);
+				if (changed > 0) {
+
+					changing = !lastRun || (oldCount != newCount);
+					this.fireContentsChanged(this, index, index + changed - 1);
+				}
+				changing = !lastRun;
+				if (newCount > changed) {
+					this.fireIntervalAdded(this, index + changed, index + newCount - 1);
+				}
+				else if (oldCount > changed) {
+					this.fireIntervalRemoved(this, index + changed, index + oldCount - 1);
+				}
+				offset += newCount - oldCount;
+			}
+		} finally {
+			changing = Boolean.FALSE;
+		}
+	}
+
+	/**
+	 * Throws an <code>IllegalStateException</code> if this model shows a
+	 * list shown with <code>forList(List)</code>. Replacing it would detach
+	 * the list, and producers would go on changing a list which isn't shown
+	 * anymore.
+	 */
+	private final void checkNotWrapped() {
+
+		if (wrapped) {
+			throw new IllegalStateException(
+					"Change sets can't be applied to a list shown with forList(List).");
 		}
 	}
 
@@ -112,6 +503,150 @@ public final class ListModelLight extends AbstractListModel {
 		return palElements.contains(element);
 	}
 
+	/**
+	 * Records a change in coalescing mode and schedules a flush behind the
+	 * current event. Must be called on the event dispatch thread.
+	 */
+	private final void coalesce(final int oldSize, final int low, final int suffix) {
+
+		if (pendingLow < 0) {
+
+			pendingSize = oldSize;
+			pendingLow = low;
+			pendingSuffix = suffix;
+		}
+		else {
+
+			pendingLow = Math.min(pendingLow, low);
+			pendingSuffix = Math.min(pendingSuffix, suffix);
+		}
+
+		if (!flushScheduled) {
+
+			flushScheduled = Boolean.TRUE;
+			SwingUtilities.invokeLater(new Runnable() {
+
+				@Override
+				public void run() {
+
+					flushScheduled = Boolean.FALSE;
+					ListModelLight.this.flush();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Creates a change set with a snapshot of the current elements. The
+	 * change set can be filled and prepared on a worker thread and then
+	 * applied with {@link #apply(ListChangeSetLight)} on the event dispatch
+	 * thread, as long as this model isn't changed in between. Creating the
+	 * snapshot copies the elements once.
+	 *
+	 * @return a new change set for this model.
+	 * @throws IllegalStateException if this model shows a list from
+	 *         <code>forList(List)</code>.
+	 */
+	public final ListChangeSetLight createChangeSet() {
+
+		this.checkNotWrapped();
+
+		return new ListChangeSetLight(this, palElements.toArray(), stamp);
+	}
+
+	@Override
+	protected void fireContentsChanged(final Object source, final int index0, final int index1) {
+
+		stamp++;
+		this.pruneDisplayKeys();
+		final int low = Math.min(index0, index1);
+		final int high = Math.max(index0, index1);
+		if (coalescing) {
+			this.coalesce(eventSize, low, eventSize - high - 1);
+		}
+		else {
+			super.fireContentsChanged(source, low, high);
+		}
+	}
+
+	@Override
+	protected void fireIntervalAdded(final Object source, final int index0, final int index1) {
+
+		stamp++;
+		final int low = Math.min(index0, index1);
+		final int high = Math.max(index0, index1);
+		final int oldSize = eventSize;
+		eventSize += high - low + 1;
+		if (coalescing) {
+			this.coalesce(oldSize, low, eventSize - high - 1);
+		}
+		else {
+			super.fireIntervalAdded(source, low, high);
+		}
+	}
+
+	@Override
+	protected void fireIntervalRemoved(final Object source, final int index0, final int index1) {
+
+		stamp++;
+		this.pruneDisplayKeys();
+		final int low = Math.min(index0, index1);
+		final int high = Math.max(index0, index1);
+		final int oldSize = eventSize;
+		eventSize -= high - low + 1;
+		if (coalescing) {
+			this.coalesce(oldSize, low, eventSize - low);
+		}
+		else {
+			super.fireIntervalRemoved(source, low, high);
+		}
+	}
+
+	/**
+	 * Informs the listeners about all changes which were recorded in
+	 * coalescing mode since the last flush. The changes are merged into one
+	 * range: at most one <code>contentsChanged</code> event and one
+	 * <code>intervalAdded</code> or <code>intervalRemoved</code> event are
+	 * fired. Without pending changes nothing happens.
+	 */
+	public final void flush() {
+
+		if (pendingLow < 0) { return; }
+
+		final int low = pendingLow;
+		final int oldHigh = pendingSize - pendingSuffix - 1;
+		final int newHigh = eventSize - pendingSuffix - 1;
+		pendingLow = -1;
+
+		final int changedHigh = Math.min(oldHigh, newHigh);
+		if (low <= changedHigh) {
+			super.fireContentsChanged(this, low, changedHigh);
+		}
+		if (newHigh > oldHigh) {
+			super.fireIntervalAdded(this, oldHigh + 1, newHigh);
+		}
+		else if (oldHigh > newHigh) {
+			super.fireIntervalRemoved(this, newHigh + 1, oldHigh);
+		}
+	}
+
+	/**
+	 * Returns the comparator which is used to sort this list or
+	 * <code>null</code> if the elements are sorted by their
+	 * <i>natural ordering</i>.
+	 *
+	 * @return the comparator.
+	 */
+	public final Comparator<Object> getComparator() { return comparator; }
+
+	/**
+	 * Returns the cache for the display strings of the elements or
+	 * <code>null</code>.
+	 *
+	 * @return the cache.
+	 */
+	public final DisplayKeyCacheLight getDisplayKeyCache() { return displayKeys; }
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -134,9 +669,99 @@ public final class ListModelLight extends AbstractListModel {
 	 * 
 	 * @see javax.swing.ListModel#getSize()
 	 */
-	public final int getSize() { return palElements.getSize(); }
+	public final int getSize() { return palElements.size(); }
+
+	/**
+	 * Returns the number of changes of this list. So a copy of the elements,
+	 * which is processed on another thread, can be checked for changes.
+	 */
+	final int getStamp() { return stamp; }
+
+	private final int getInsertionIndex(final Object element, final Comparator<Object> c) {
+
+		if (palElements instanceof ArrayListLight) {
+			return ((ArrayListLight<Object>) palElements).getInsertionIndex(element, c);
+		}
+
+		int low = 0;
+		int high = palElements.size();
+		while (low < high) {
+
+			final int mid = (low + high) >>> 1;
+			if (c.compare(palElements.get(mid), element) > 0) {
+				high = mid;
+			}
+			else {
+				low = mid + 1;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Informs the listeners about the elements which were appended to the
+	 * list from <code>forList(List)</code> by the list itself.
+	 */
+	private final void grown(final List<?> elements) {
+
+		if (palElements != elements) { return; }
+
+		final int oldSize = eventSize;
+		final int newSize = palElements.size();
+		if (newSize > oldSize) {
+
+			sorted = (newSize <= 1);
+			this.fireIntervalAdded(this, oldSize, newSize - 1);
+		}
+	}
+
+	private final Comparator<Object> getSortComparator() {
+
+		return (comparator != null) ? comparator : NATURAL_ORDER;
+	}
+
+	private final void init() {
+
+		final ArrayListLight<Object> elements = new ArrayListLight<Object>();
+		elements.setIndexed(indexed);
+		palElements = elements;
+	}
+
+	/**
+	 * Returns <code>true</code> if the changes are coalesced (see
+	 * {@link #setCoalescing(boolean)}).
+	 *
+	 * @return <code>true</code> if the coalescing mode is active.
+	 */
+	public final boolean isCoalescing() { return coalescing; }
+
+	/**
+	 * Returns <code>true</code> while a listener is informed about a change
+	 * for which further events follow. The elements are already in their
+	 * final state, so a listener which reads elements should wait for the
+	 * last event.
+	 */
+	final boolean isChanging() { return changing; }
 
-	private final void init() { palElements = new ArrayListLight<Object>(); }
+	/**
+	 * Returns <code>true</code> if the elements from this list are sorted
+	 * according to the comparator.
+	 *
+	 * @return <code>true</code> if this list is sorted.
+	 */
+	public final boolean isSorted() { return sorted; }
+
+	/**
+	 * Drops the cached display strings of removed or replaced elements, if
+	 * the cache holds clearly more strings than this list has elements.
+	 */
+	private final void pruneDisplayKeys() {
+
+		if (displayKeys != null && displayKeys.getSize() > 2 * palElements.size() + 64) {
+			displayKeys.retain(palElements);
+		}
+	}
 
 	/**
 	 * Removes the element at the specified position in this list. Returns the
@@ -151,7 +776,7 @@ public final class ListModelLight extends AbstractListModel {
 
 		final Object removed = palElements.get(index);
 		palElements.remove(index);
-		super.fireIntervalRemoved(this, index, index);
+		this.fireIntervalRemoved(this, index, index);
 
 		return removed;
 	}
@@ -171,7 +796,7 @@ public final class ListModelLight extends AbstractListModel {
 		if (index >= 0) {
 
 			palElements.remove(index);
-			super.fireIntervalRemoved(this, index, index);
+			this.fireIntervalRemoved(this, index, index);
 			
 			return obj;
 		}
@@ -179,23 +804,341 @@ public final class ListModelLight extends AbstractListModel {
 		return null;
 	}
 	
+	/**
+	 * Removes the elements at the specified indices from this list and
+	 * returns them. If the elements are stored in an
+	 * <code>ArrayListLight</code>, the list is compacted in one single pass.
+	 * <p>
+	 * The listeners are informed with one <code>intervalRemoved</code> event
+	 * per contiguous run of removed elements, from the last run to the
+	 * first, so the indices of every event are valid when it is fired. If
+	 * there are too many runs, one <code>intervalRemoved</code> event for
+	 * the shrunk end of the list and one <code>contentsChanged</code> event
+	 * for the shifted part are fired instead.
+	 *
+	 * @param indices the indices of the elements to be removed in strictly
+	 *        ascending order, for example from
+	 *        <code>JList.getSelectedIndices()</code>.
+	 * @return the removed elements.
+	 */
+	public final Object[] remove(final int[] indices) {
+
+		final int numRemoved = indices.length;
+		final Object[] removed = new Object[numRemoved];
+		if (numRemoved == 0) { return removed; }
+
+		final int oldSize = palElements.size();
+		for (int i = 0; i < numRemoved; i++) { removed[i] = palElements.get(indices[i]); }
+
+		int runs = 1;
+		for (int i = 1; i < numRemoved; i++) {
+			if (indices[i] != indices[i - 1] + 1) { runs++; }
+		}
+
+		if (palElements instanceof ArrayListLight) {
+			((ArrayListLight<Object>) palElements).removeIndices(indices);
+		}
+		else if (palElements instanceof ConcurrentArrayListLight) {
+			((ConcurrentArrayListLight<Object>) palElements).removeIndices(indices);
+		}
+		else if (palElements instanceof CopyOnWriteArrayListLight) {
+			((CopyOnWriteArrayListLight<Object>) palElements).removeIndices(indices);
+		}
+		else {
+
+			// From the last run to the first, so the lower indices stay valid.
+			int last = numRemoved - 1;
+			for (int i = numRemoved - 2; i >= -1; i--) {
+
+				if (i == -1 || indices[i] != indices[i + 1] - 1) {
+
+					palElements.subList(indices[i + 1], indices[last] + 1).clear();
+					last = i;
+				}
+			}
+		}
+
+		if (runs > MAX_INTERVAL_EVENTS) {
+
+			final int newSize = oldSize - numRemoved;
+			this.fireIntervalRemoved(this, newSize, oldSize - 1);
+			if (indices[0] < newSize) {
+				this.fireContentsChanged(this, indices[0], newSize - 1);
+			}
+
+			return removed;
+		}
+
+		int last = numRemoved - 1;
+		for (int i = numRemoved - 2; i >= -1; i--) {
+
+			if (i == -1 || indices[i] != indices[i + 1] - 1) {
+
+				this.fireIntervalRemoved(this, indices[i + 1], indices[last]);
+				last = i;
+			}
+		}
+
+		return removed;
+	}
+
 	/**
 	 * Removes all of the elements from this list. The list will be
 	 * empty after this call returns (unless it throws an exception).
+	 * A list shown with <code>forList(List)</code> is cleared and kept, so a
+	 * <code>RingBufferListLight</code> keeps its capacity.
 	 */
 	public final void removeAll() {
 
 		final int index = this.getSize() - 1;
-		palElements = new ArrayListLight<Object>();
+		if (wrapped) {
+			palElements.clear();
+		}
+		else {
+			this.init();
+		}
+		sorted = Boolean.TRUE;
 		if (index >= 0) {
 
-			super.fireIntervalRemoved(this, 0, index);
+			this.fireIntervalRemoved(this, 0, index);
 		}
 	}
 	
+	/**
+	 * Replaces the first occurrence of <code>oldElement</code> with
+	 * <code>newElement</code> (see {@link #set(int, Object)}). Returns the
+	 * index of the replaced element or -1 if <code>oldElement</code> isn't
+	 * in this list.
+	 *
+	 * @param oldElement the element to be replaced.
+	 * @param newElement the new element.
+	 * @return the index of the replaced element or -1.
+	 */
+	public final int replace(final Object oldElement, final Object newElement) {
+
+		final int index = palElements.indexOf(oldElement);
+		if (index >= 0) { this.set(index, newElement); }
+
+		return index;
+	}
+
+	/**
+	 * Replaces the elements of this model with the specified elements and
+	 * informs the listeners only about the differences (see
+	 * {@link #replaceAll(List, Function)}). Elements are compared with
+	 * <code>equals</code>.
+	 *
+	 * @param elements the new elements.
+	 * @throws IllegalStateException if this model shows a list from
+	 *         <code>forList(List)</code>.
+	 */
+	public final void replaceAll(final List<?> elements) { this.replaceAll(elements, null); }
+
+	/**
+	 * Replaces the elements of this model with the specified elements and
+	 * informs the listeners only about the differences. Unlike
+	 * <code>removeAll()</code> and <code>add(Object[])</code> the selection
+	 * and the scroll position of a <code>JList</code> stay at the unchanged
+	 * rows. Two elements with equal keys are the same row, if the elements
+	 * aren't equal the row is replaced (<code>contentsChanged</code>).
+	 * <p>
+	 * The differences are computed with
+	 * {@link ListChangeSetLight#diff(List, Function)} on the calling thread.
+	 * For very large lists the diff can be computed on a worker thread
+	 * instead:
+	 * <pre>
+	 * final ListChangeSetLight changeSet = model.createChangeSet();
+	 * // on the worker thread
+	 * changeSet.diff(newElements, keyFunction);
+	 * changeSet.prepare();
+	 * // back on the event dispatch thread
+	 * model.apply(changeSet);
+	 * </pre>
+	 *
+	 * @param elements the new elements.
+	 * @param keyFunction the function which returns the key of an element
+	 *        or <code>null</code> to compare the elements itself.
+	 * @throws IllegalStateException if this model shows a list from
+	 *         <code>forList(List)</code>.
+	 */
+	public final void replaceAll(final List<?> elements, final Function<Object, ?> keyFunction) {
+
+		final ListChangeSetLight changeSet = this.createChangeSet();
+		changeSet.diff(elements, keyFunction);
+		this.apply(changeSet);
+	}
+
+	/**
+	 * Replaces the element at the specified position in this list and
+	 * returns the old element. The listeners are informed with one single
+	 * event <code>contentsChanged(index, index)</code>. The element can
+	 * also be the old element itself, for example if its display string
+	 * has changed. The cached display strings of both elements are
+	 * invalidated.
+	 * <p>
+	 * Throws an <code>IndexOutOfBoundsException</code> if the index is out
+	 * of range (<code>index &lt; 0 || index &gt;= getSize()</code>).
+	 *
+	 * @param index index of the element to be replaced.
+	 * @param element the new element.
+	 * @return the replaced element.
+	 */
+	public final Object set(final int index, final Object element) {
+
+		final Object oldElement = palElements.set(index, element);
+		if (displayKeys != null) {
+
+			displayKeys.invalidate(oldElement);
+			displayKeys.invalidate(element);
+		}
+		sorted = (palElements.size() <= 1);
+		this.fireContentsChanged(this, index, index);
+
+		return oldElement;
+	}
+
+	/**
+	 * Sets the cache for the display strings of the elements. The cache
+	 * can be used by the comparator (see
+	 * {@link DisplayKeyCacheLight#getComparator()}), the renderer and the
+	 * type-ahead search of a list. The strings of changed elements are
+	 * invalidated by <code>set(int, Object)</code> and
+	 * <code>replace(Object, Object)</code>.
+	 *
+	 * @param displayKeys the cache or <code>null</code>.
+	 */
+	public final void setDisplayKeyCache(final DisplayKeyCacheLight displayKeys) {
+
+		this.displayKeys = displayKeys;
+	}
+
+	/**
+	 * Replaces the list which is shown by this model with
+	 * <code>elements</code>. The list isn't copied. This is intended for
+	 * immutable versions of a list like <code>PersistentListLight</code>,
+	 * where every change (or undo and redo) creates a new version.
+	 * <p>
+	 * The listeners are only informed about the changed part: the common
+	 * prefix and suffix from the old and the new list (compared by identity
+	 * or <code>equals</code>) are skipped, for the part between them at
+	 * most one <code>contentsChanged</code> and one
+	 * <code>intervalAdded</code> or <code>intervalRemoved</code> event is
+	 * fired.
+	 *
+	 * @param elements the new list of this model.
+	 */
+	@SuppressWarnings("unchecked")
+	public final void setList(final List<?> elements) {
+
+		final List<Object> oldElements = palElements;
+		final List<Object> newElements = (List<Object>) elements;
+		final int oldSize = oldElements.size();
+		final int newSize = newElements.size();
+		final int max = Math.min(oldSize, newSize);
+
+		int prefix = 0;
+		final Iterator<Object> oldIterator = oldElements.iterator();
+		final Iterator<Object> newIterator = newElements.iterator();
+		while (prefix < max && isSame(oldIterator.next(), newIterator.next())) {
+			prefix++;
+		}
+
+		int suffix = 0;
+		while (
+				suffix < max - prefix
+				&& isSame(
+						oldElements.get(oldSize - suffix - 1),
+						newElements.get(newSize - suffix - 1))
+		) {
+			suffix++;
+		}
+
+		palElements = newElements;
+		wrapped = Boolean.FALSE;
+		sorted = (newSize <= 1);
+
+		final int oldChanged = oldSize - prefix - suffix;
+		final int newChanged = newSize - prefix - suffix;
+		final int changed = Math.min(oldChanged, newChanged);
+		if (changed > 0) {
+			this.fireContentsChanged(this, prefix, prefix + changed - 1);
+		}
+		if (oldChanged > changed) {
+			this.fireIntervalRemoved(this, prefix + changed, prefix + oldChanged - 1);
+		}
+		if (newChanged > changed) {
+			this.fireIntervalAdded(this, prefix + changed, prefix + newChanged - 1);
+		}
+	}
+
+	/**
+	 * Activates or deactivates the hash index for <code>contains(Object)</code>
+	 * and <code>remove(Object)</code> (see
+	 * {@link ArrayListLight#setIndexed(boolean)}). The index is only
+	 * available if the elements are stored in an <code>ArrayListLight</code>,
+	 * for other lists this setting has no effect.
+	 *
+	 * @param indexed <code>true</code> to activate the hash index.
+	 */
+	public final void setIndexed(final boolean indexed) {
+
+		this.indexed = indexed;
+		if (palElements instanceof ArrayListLight) {
+			((ArrayListLight<Object>) palElements).setIndexed(indexed);
+		}
+	}
+
+	private static boolean isSame(final Object o1, final Object o2) {
+
+		return o1 == o2 || (o1 != null && o1.equals(o2));
+	}
+
+	/**
+	 * Activates or deactivates the coalescing mode. In coalescing mode the
+	 * changes aren't reported to the listeners immediately. They are
+	 * recorded and merged, and once per run of the event dispatch thread
+	 * (or with an explicit {@link #flush()}) the listeners are informed
+	 * with at most one <code>contentsChanged</code> event and one
+	 * <code>intervalAdded</code> or <code>intervalRemoved</code> event.
+	 * So a loop which adds or removes many single elements costs only a
+	 * few events. Until the flush the listeners know the old size of the
+	 * list.
+	 * <p>
+	 * This model isn't thread-safe, in coalescing mode too: the changes and
+	 * the flush must happen on the event dispatch thread, the pending state
+	 * isn't synchronized. To build large changes on a worker thread use a
+	 * change set (see {@link #createChangeSet()}).
+	 * <p>
+	 * Deactivating the mode flushes the pending changes.
+	 *
+	 * @param coalescing <code>true</code> to coalesce the events.
+	 */
+	public final void setCoalescing(final boolean coalescing) {
+
+		this.coalescing = coalescing;
+		if (!coalescing) { this.flush(); }
+	}
+
+	/**
+	 * Sets the comparator which is used to sort this list. If
+	 * <code>comparator</code> is <code>null</code> the elements will be
+	 * sorted by their <i>natural ordering</i>. The list isn't sorted
+	 * immediately, the next call from <code>sort()</code> or
+	 * <code>addSorted(Object)</code> will do it.
+	 *
+	 * @param comparator the comparator or <code>null</code>.
+	 */
+	public final void setComparator(final Comparator<Object> comparator) {
+
+		this.comparator = comparator;
+		sorted = (palElements.size() <= 1);
+	}
+
 	/**
      * Sorts the elements from this list into ascending order, according to
-     * the <i>natural ordering</i> of its elements.  All elements in the list
+     * the comparator (see {@link #setComparator}) or if no comparator is
+     * defined according to the <i>natural ordering</i> of its elements. In
+     * the second case all elements in the list
      * must implement the <tt>Comparable</tt> interface.  Furthermore, all
      * elements in the list must be <i>mutually comparable</i> (that is,
      * <tt>e1.compareTo(e2)</tt> must not throw a <tt>ClassCastException</tt>
@@ -204,18 +1147,35 @@ public final class ListModelLight extends AbstractListModel {
      * This sort is guaranteed to be <i>stable</i>: equal elements will
      * not be reordered as a result of the sort.<p>
      *
-     * The sorting algorithm is a modified mergesort (in which the merge is
-     * omitted if the highest element in the low sublist is less than the
-     * lowest element in the high sublist). This algorithm offers guaranteed
-     * n*log(n) performance.
+     * See {@link #sort(Comparator)} for details.
      */
-	public final void sort() {
-		
-		Object[] o = palElements.toArray();
-		Arrays.sort(o);
-		
-		this.removeAll();
-		this.add(o);
+	public final void sort() { this.sort(comparator); }
+
+	/**
+	 * Sets the comparator (see {@link #setComparator}) and sorts the
+	 * elements from this list according to it. If the list is an
+	 * <code>ArrayListLight</code>, its internal array is sorted in place;
+	 * lists with at least <code>ArrayListLight.PARALLEL_SORT_THRESHOLD</code>
+	 * elements are sorted with <code>Arrays.parallelSort</code>. The
+	 * listeners are informed with one single <code>contentsChanged</code>
+	 * event over the whole list.<p>
+	 *
+	 * This sort is guaranteed to be <i>stable</i>: equal elements will
+	 * not be reordered as a result of the sort.
+	 *
+	 * @param comparator the comparator or <code>null</code> for the
+	 *        <i>natural ordering</i>.
+	 */
+	public final void sort(final Comparator<Object> comparator) {
+
+		this.comparator = comparator;
+		palElements.sort(this.getSortComparator());
+		sorted = Boolean.TRUE;
+
+		final int size = palElements.size();
+		if (size > 0) {
+			this.fireContentsChanged(this, 0, size - 1);
+		}
 	}
 
 	/**
@@ -0,0 +1,718 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javax.swing.AbstractListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+/**
+ * A filtered and sorted view of a <code>ListModelLight</code>. The view
+ * doesn't copy the elements, it only holds an <code>int[]</code> with the
+ * indices of the shown elements in the source model. So several views with
+ * different filters can show the same model.<p>
+ *
+ * The view listens to the source model and updates the indices
+ * incrementally: added elements are inserted at the positions found with a
+ * binary search and removed elements are dropped in place, changed elements
+ * are merged into the existing order in <code>O(n)</code> without sorting
+ * the whole view again.
+ * A new filter or comparator is applied to all elements, in parallel for
+ * large models. In every case the listeners of the view are informed only
+ * about the rows which really changed.<p>
+ *
+ * Elements with the same order (or without a comparator) are shown in the
+ * order of the source model. All methods must be called on the event
+ * dispatch thread. If the view isn't needed anymore, <code>close()</code>
+ * removes it from the listeners of the source model.<p>
+ *
+ * If the source model fires several events for one change (for example
+ * <code>apply(ListChangeSetLight)</code>), the view only reads the
+ * elements after the last event.<p>
+ *
+ * <b>Benötigte Klassen:</b><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.ListModelLight</code><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.ListChangeSetLight</code><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.IntArrayListLight</code>
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ListModelLight
+ */
+public final class ListViewModelLight extends AbstractListModel implements ListDataListener,
+		Closeable {
+
+	private static final long serialVersionUID = 4630195875542601127L;
+
+	/**
+	 * If a change produces more separate intervals than this value, the
+	 * listeners are informed with merged events.
+	 */
+	private static final int MAX_INTERVAL_EVENTS = 64;
+
+	private final ListModelLight source;
+
+	private transient Predicate<Object> filter = null;
+	private transient Comparator<Object> comparator = null;
+
+	/**
+	 * The indices of the shown elements in the source model, ordered by
+	 * the comparator and then by the index. Only the first
+	 * <code>size</code> entries are used.
+	 */
+	private int[] mapping = null;
+	private int size = 0;
+
+	/**
+	 * The size of the source model like it is known from the events.
+	 */
+	private int sourceSize = 0;
+
+	/*
+	 * While the source model fires the events of one change, the shown
+	 * indices are only translated into pendingRows (-1 for removed
+	 * elements). After the last event the view is synchronized.
+	 */
+	private int[] pendingRows = null;
+	private boolean pendingChanged = Boolean.FALSE;
+
+	/**
+	 * Creates a view which shows all elements of the source model in their
+	 * original order.
+	 *
+	 * @param source the source model.
+	 */
+	public ListViewModelLight(final ListModelLight source) {
+
+		super();
+
+		this.source = source;
+		sourceSize = source.getSize();
+		mapping = this.computeMapping();
+		size = mapping.length;
+		source.addListDataListener(this);
+	}
+
+	/**
+	 * Sets the filter together with the rows which pass it, for example
+	 * computed by a <code>ListFilterLight</code> on a background thread.
+	 * The rows must be ordered like this view.
+	 */
+	void applyFilter(final Predicate<Object> filter, final int[] rows) {
+
+		this.filter = filter;
+		this.update(this.getRows(), rows, -1, -1);
+	}
+
+	/**
+	 * Removes this view from the listeners of the source model.
+	 */
+	@Override
+	public void close() { source.removeListDataListener(this); }
+
+	/**
+	 * Compares two elements of the source model by the comparator and then
+	 * by their index.
+	 */
+	private int compareRows(final int row1, final int row2) {
+
+		if (comparator != null) {
+
+			final int result = comparator.compare(
+					source.getElementAt(row1), source.getElementAt(row2));
+			if (result != 0) { return result; }
+		}
+
+		return (row1 < row2) ? -1 : ((row1 == row2) ? 0 : 1);
+	}
+
+	/**
+	 * Filters and sorts all elements of the source model.
+	 */
+	private int[] computeMapping() { return this.selectRows(0, source.getSize()); }
+
+	@Override
+	public void contentsChanged(final ListDataEvent e) {
+
+		final int from = Math.min(e.getIndex0(), e.getIndex1());
+		final int to = Math.max(e.getIndex0(), e.getIndex1());
+		if (from < 0) { return; }
+
+		if (this.isIncomplete()) {
+
+			pendingRows = (pendingRows != null) ? pendingRows : Arrays.copyOf(mapping, size);
+			pendingChanged = Boolean.TRUE;
+			this.synchronizeIfComplete();
+			return;
+		}
+
+		final int[] oldRows = this.getRows();
+		if (to - from + 1 > source.getSize() / 2) {
+
+			this.update(oldRows, this.computeMapping(), from, to);
+			return;
+		}
+
+		// The changed elements are filtered and sorted again.
+		final IntArrayListLight rows = new IntArrayListLight(oldRows.length);
+		for (final int row : oldRows) {
+			if (row < from || row > to) { rows.addInt(row); }
+		}
+		this.update(oldRows, this.merge(rows.toIntArray(), this.selectRows(from, to + 1)), from, to);
+	}
+
+	/**
+	 * Returns the element at the specified position in this view.
+	 *
+	 * @param index the index in this view.
+	 * @return the element from the source model.
+	 */
+	@Override
+	public Object getElementAt(final int index) {
+
+		return source.getElementAt(this.getSourceIndex(index));
+	}
+
+	/**
+	 * Returns the comparator of this view or <code>null</code>.
+	 *
+	 * @return the comparator.
+	 */
+	public Comparator<Object> getComparator() { return comparator; }
+
+	/**
+	 * Returns the filter of this view or <code>null</code>.
+	 *
+	 * @return the filter.
+	 */
+	public Predicate<Object> getFilter() { return filter; }
+
+	/**
+	 * Returns the shown indices in an array of their length. The array may
+	 * be the mapping itself and must not be changed.
+	 */
+	private int[] getRows() { return (mapping.length == size) ? mapping : Arrays.copyOf(mapping, size); }
+
+	@Override
+	public int getSize() { return size; }
+
+	/**
+	 * Returns the source model of this view.
+	 *
+	 * @return the source model.
+	 */
+	public ListModelLight getSource() { return source; }
+
+	/**
+	 * Returns the index in the source model of the element at the specified
+	 * position in this view.
+	 *
+	 * @param index the index in this view.
+	 * @return the index in the source model.
+	 */
+	public int getSourceIndex(final int index) {
+
+		if (index >= size || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ size
+		    		);
+		}
+
+		return mapping[index];
+	}
+
+	/**
+	 * Returns the position of the element with the specified index of the
+	 * source model in this view, or -1 if the element isn't shown. Without
+	 * a comparator the position is located with a binary search.
+	 *
+	 * @param sourceIndex the index in the source model.
+	 * @return the index in this view or -1.
+	 */
+	public int getViewIndex(final int sourceIndex) {
+
+		if (comparator == null) {
+
+			final int index = Arrays.binarySearch(mapping, 0, size, sourceIndex);
+
+			return (index >= 0) ? index : -1;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (mapping[i] == sourceIndex) { return i; }
+		}
+
+		return -1;
+	}
+
+	@Override
+	public void intervalAdded(final ListDataEvent e) {
+
+		final int from = Math.min(e.getIndex0(), e.getIndex1());
+		final int to = Math.max(e.getIndex0(), e.getIndex1());
+		final int count = to - from + 1;
+		sourceSize += count;
+
+		if (this.isIncomplete()) {
+
+			// The shown elements behind the new ones are shifted.
+			final int[] oldRows = (pendingRows != null) ? pendingRows : Arrays.copyOf(mapping, size);
+			for (int i = 0; i < oldRows.length; i++) {
+				if (oldRows[i] >= from) { oldRows[i] += count; }
+			}
+
+			pendingRows = oldRows;
+			this.synchronizeIfComplete();
+			return;
+		}
+
+		this.insertRows(from, to);
+	}
+
+	@Override
+	public void intervalRemoved(final ListDataEvent e) {
+
+		final int from = Math.min(e.getIndex0(), e.getIndex1());
+		final int to = Math.max(e.getIndex0(), e.getIndex1());
+		final int count = to - from + 1;
+		sourceSize -= count;
+
+		if (pendingRows != null || source.isChanging()) {
+
+			// The removed elements are marked with -1, the rest is shifted.
+			final int[] oldRows = (pendingRows != null) ? pendingRows : Arrays.copyOf(mapping, size);
+			for (int i = 0; i < oldRows.length; i++) {
+
+				final int row = oldRows[i];
+				if (row > to) {
+					oldRows[i] = row - count;
+				}
+				else if (row >= from) {
+					oldRows[i] = -1;
+				}
+			}
+
+			pendingRows = oldRows;
+			this.synchronizeIfComplete();
+			return;
+		}
+
+		this.removeRows(from, to);
+	}
+
+	/**
+	 * Shifts the shown rows behind the added elements and inserts the added
+	 * elements which pass the filter in place, at the positions found with
+	 * a binary search. The listeners are informed about the inserted rows.
+	 */
+	private void insertRows(final int from, final int to) {
+
+		final int count = to - from + 1;
+		for (int i = 0; i < size; i++) {
+			if (mapping[i] >= from) { mapping[i] += count; }
+		}
+
+		final int[] added = this.selectRows(from, to + 1);
+		final int numNew = added.length;
+		if (numNew == 0) { return; }
+
+		// The added rows are ordered like the view, so are their positions.
+		final int[] positions = new int[numNew];
+		int low = 0;
+		for (int j = 0; j < numNew; j++) {
+
+			int high = size;
+			while (low < high) {
+
+				final int mid = (low + high) >>> 1;
+				if (this.compareRows(mapping[mid], added[j]) < 0) { low = mid + 1; }
+				else { high = mid; }
+			}
+			positions[j] = low;
+		}
+
+		if (size + numNew > mapping.length) {
+			mapping = Arrays.copyOf(mapping, Math.max(size + numNew, size * 3 / 2 + 1));
+		}
+
+		// Merged from the end, every shown row is moved at most once.
+		int end = size;
+		for (int j = numNew - 1; j >= 0; j--) {
+
+			System.arraycopy(mapping, positions[j], mapping, positions[j] + j + 1, end - positions[j]);
+			mapping[positions[j] + j] = added[j];
+			end = positions[j];
+		}
+		size += numNew;
+
+		int runs = 1;
+		for (int j = 1; j < numNew; j++) {
+			if (positions[j] != positions[j - 1]) { runs++; }
+		}
+		if (runs > MAX_INTERVAL_EVENTS) {
+
+			final int first = positions[0];
+			final int oldCount = positions[numNew - 1] - first;
+			if (oldCount > 0) {
+				super.fireContentsChanged(this, first, first + oldCount - 1);
+			}
+			super.fireIntervalAdded(this, first + oldCount, first + oldCount + numNew - 1);
+			return;
+		}
+
+		for (int j = 0; j < numNew; j++) {
+
+			final int first = positions[j] + j;
+			while (j + 1 < numNew && positions[j + 1] == positions[j]) { j++; }
+			super.fireIntervalAdded(this, first, positions[j] + j);
+		}
+	}
+
+	/**
+	 * Drops the shown rows of the removed elements in place and shifts the
+	 * rows behind them. The elements aren't read, so this works in the
+	 * middle of a change. The listeners are informed about the removed rows.
+	 */
+	private void removeRows(final int from, final int to) {
+
+		final int count = to - from + 1;
+
+		// Every run of removed rows is stored as (old index, count).
+		final IntArrayListLight runs = new IntArrayListLight();
+		int runStart = -1;
+		int runCount = 0;
+		int w = 0;
+		for (int i = 0; i < size; i++) {
+
+			final int row = mapping[i];
+			if (row > to) {
+				mapping[w++] = row - count;
+			}
+			else if (row < from) {
+				mapping[w++] = row;
+			}
+			else if (i == runStart + runCount) {
+				runCount++;
+			}
+			else {
+
+				if (runCount > 0) {
+					runs.addInt(runStart);
+					runs.addInt(runCount);
+				}
+				runStart = i;
+				runCount = 1;
+			}
+		}
+		if (runCount > 0) {
+			runs.addInt(runStart);
+			runs.addInt(runCount);
+		}
+		final int numRemoved = size - w;
+		size = w;
+		if (numRemoved == 0) { return; }
+
+		if (runs.getSize() / 2 > MAX_INTERVAL_EVENTS) {
+
+			final int first = runs.getInt(0);
+			final int last = runs.getInt(runs.getSize() - 2) + runs.getInt(runs.getSize() - 1) - 1;
+			super.fireIntervalRemoved(this, last - numRemoved + 1, last);
+			if (last - numRemoved >= first) {
+				super.fireContentsChanged(this, first, last - numRemoved);
+			}
+			return;
+		}
+
+		int offset = 0;
+		for (int r = 0; r < runs.getSize(); r += 2) {
+
+			final int index = runs.getInt(r) - offset;
+			super.fireIntervalRemoved(this, index, index + runs.getInt(r + 1) - 1);
+			offset += runs.getInt(r + 1);
+		}
+	}
+
+	/**
+	 * Merges two arrays of source indices, which are both ordered like
+	 * this view.
+	 */
+	private int[] merge(final int[] rows1, final int[] rows2) {
+
+		if (rows2.length == 0) { return rows1; }
+
+		final int[] rows = new int[rows1.length + rows2.length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while (i < rows1.length && j < rows2.length) {
+
+			if (this.compareRows(rows1[i], rows2[j]) <= 0) {
+				rows[k++] = rows1[i++];
+			}
+			else {
+				rows[k++] = rows2[j++];
+			}
+		}
+		System.arraycopy(rows1, i, rows, k, rows1.length - i);
+		System.arraycopy(rows2, j, rows, k, rows2.length - j);
+
+		return rows;
+	}
+
+	/**
+	 * Applies the filter and the comparator again to all elements, for
+	 * example if the filter depends on a changed setting.
+	 */
+	public void refilter() { this.update(this.getRows(), this.computeMapping(), -1, -1); }
+
+	/**
+	 * Returns the indices from <code>fromIndex</code> (inclusive) to
+	 * <code>toIndex</code> (exclusive) which pass the filter, ordered like
+	 * this view. Large ranges are filtered and sorted in parallel.
+	 */
+	private int[] selectRows(final int fromIndex, final int toIndex) {
+
+		IntStream rows = IntStream.range(fromIndex, toIndex);
+		if (toIndex - fromIndex >= ArrayListLight.PARALLEL_SORT_THRESHOLD) {
+			rows = rows.parallel();
+		}
+
+		final Predicate<Object> f = filter;
+		if (f != null) {
+
+			rows = rows.filter(new IntPredicate() {
+
+				@Override
+				public boolean test(final int row) {
+
+					return f.test(source.getElementAt(row));
+				}
+			});
+		}
+
+		final int[] selected = rows.toArray();
+		if (comparator == null) { return selected; }
+
+		final Integer[] boxed = new Integer[selected.length];
+		for (int i = 0; i < selected.length; i++) { boxed[i] = selected[i]; }
+		ArrayListLight.sort(boxed, 0, boxed.length, new Comparator<Integer>() {
+
+			@Override
+			public int compare(final Integer row1, final Integer row2) {
+
+				return ListViewModelLight.this.compareRows(row1, row2);
+			}
+		});
+		for (int i = 0; i < selected.length; i++) { selected[i] = boxed[i]; }
+
+		return selected;
+	}
+
+	/**
+	 * Sets the comparator which orders this view and sorts the view. With
+	 * <code>null</code> the elements are shown in the order of the source
+	 * model.
+	 *
+	 * @param comparator the comparator or <code>null</code>.
+	 */
+	public void setComparator(final Comparator<Object> comparator) {
+
+		this.comparator = comparator;
+		this.refilter();
+	}
+
+	/**
+	 * Sets the filter of this view and filters all elements again. With
+	 * <code>null</code> all elements are shown.
+	 *
+	 * @param filter the filter or <code>null</code>.
+	 */
+	public void setFilter(final Predicate<Object> filter) {
+
+		this.filter = filter;
+		this.refilter();
+	}
+
+	/**
+	 * Sets the filter without filtering the shown rows again. Only elements
+	 * which are added or changed from now on are filtered with it, the
+	 * rows of the other ones are passed later with <code>applyFilter</code>.
+	 */
+	void setPendingFilter(final Predicate<Object> filter) { this.filter = filter; }
+
+	/**
+	 * Filters and sorts all elements again after the last event of a change
+	 * from the source model. If elements were changed, all retained rows
+	 * are reported as changed.
+	 */
+	private void synchronizeIfComplete() {
+
+		if (sourceSize != source.getSize() || source.isChanging()) { return; }
+
+		final int[] oldRows = pendingRows;
+		final boolean changed = pendingChanged;
+		pendingRows = null;
+		pendingChanged = Boolean.FALSE;
+
+		this.update(
+				oldRows, this.computeMapping(),
+				changed ? 0 : -1, changed ? Integer.MAX_VALUE : -1);
+	}
+
+	/**
+	 * Replaces the mapping and informs the listeners about the difference.
+	 * <code>oldRows</code> are the shown indices already translated into
+	 * the current indices of the source model (-1 for removed elements).
+	 * The rows are matched by their source index and the longest sequence
+	 * of rows which keeps its order is retained. Retained rows with a
+	 * source index from <code>dirtyFrom</code> to <code>dirtyTo</code> are
+	 * reported as changed.
+	 */
+	private void update(
+			final int[] oldRows, final int[] newRows, final int dirtyFrom, final int dirtyTo
+	) {
+		final int[] newPositions = new int[sourceSize];
+		Arrays.fill(newPositions, -1);
+		for (int j = 0; j < newRows.length; j++) { newPositions[newRows[j]] = j; }
+
+		final int[] matches = new int[oldRows.length];
+		for (int i = 0; i < oldRows.length; i++) {
+			matches[i] = (oldRows[i] >= 0) ? newPositions[oldRows[i]] : -1;
+		}
+		final boolean[] retained = ListChangeSetLight.longestIncreasingSubsequence(matches);
+
+		// Every run is stored as (old index, old count, new count).
+		final IntArrayListLight runs = new IntArrayListLight();
+		final IntArrayListLight changedRows = new IntArrayListLight();
+		int nextOld = 0;
+		int nextNew = 0;
+		for (int i = 0; i <= oldRows.length; i++) {
+
+			if (i < oldRows.length && !retained[i]) { continue; }
+
+			final int j = (i < oldRows.length) ? matches[i] : newRows.length;
+			if (i > nextOld || j > nextNew) {
+
+				runs.addInt(nextOld);
+				runs.addInt(i - nextOld);
+				runs.addInt(j - nextNew);
+			}
+			if (i < oldRows.length && oldRows[i] >= dirtyFrom && oldRows[i] <= dirtyTo) {
+				changedRows.addInt(j);
+			}
+			nextOld = i + 1;
+			nextNew = j + 1;
+		}
+
+		mapping = newRows;
+		size = newRows.length;
+
+		if (runs.getSize() / 3 + changedRows.getSize() > MAX_INTERVAL_EVENTS) {
+
+			this.fireMerged(oldRows, newRows, dirtyFrom, dirtyTo);
+			return;
+		}
+
+		int offset = 0;
+		for (int r = 0; r < runs.getSize(); r += 3) {
+
+			final int index = runs.getInt(r) + offset;
+			final int oldCount = runs.getInt(r + 1);
+			final int newCount = runs.getInt(r + 2);
+			final int changed = Math.min(oldCount, newCount);
+			if (changed > 0) {
+				super.fireContentsChanged(this, index, index + changed - 1);
+			}
+			if (newCount > changed) {
+				super.fireIntervalAdded(this, index + changed, index + newCount - 1);
+			}
+			else if (oldCount > changed) {
+				super.fireIntervalRemoved(this, index + changed, index + oldCount - 1);
+			}
+			offset += newCount - oldCount;
+		}
+
+		for (int c = 0; c < changedRows.getSize(); c++) {
+
+			final int first = changedRows.getInt(c);
+			while (c + 1 < changedRows.getSize() && changedRows.getInt(c + 1) == changedRows.getInt(c) + 1) {
+				c++;
+			}
+			super.fireContentsChanged(this, first, changedRows.getInt(c));
+		}
+	}
+
+	/**
+	 * Informs the listeners with at most one <code>contentsChanged</code>
+	 * event and one <code>intervalAdded</code> or
+	 * <code>intervalRemoved</code> event for the range between the
+	 * unchanged prefix and suffix.
+	 */
+	private void fireMerged(
+			final int[] oldRows, final int[] newRows, final int dirtyFrom, final int dirtyTo
+	) {
+		final int max = Math.min(oldRows.length, newRows.length);
+		int prefix = 0;
+		while (prefix < max && this.isUnchanged(oldRows[prefix], newRows[prefix], dirtyFrom, dirtyTo)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (
+				suffix < max - prefix
+				&& this.isUnchanged(
+						oldRows[oldRows.length - suffix - 1],
+						newRows[newRows.length - suffix - 1], dirtyFrom, dirtyTo)
+		) {
+			suffix++;
+		}
+
+		final int oldHigh = oldRows.length - suffix - 1;
+		final int newHigh = newRows.length - suffix - 1;
+		if (prefix <= Math.min(oldHigh, newHigh)) {
+			super.fireContentsChanged(this, prefix, Math.min(oldHigh, newHigh));
+		}
+		if (newHigh > oldHigh) {
+			super.fireIntervalAdded(this, oldHigh + 1, newHigh);
+		}
+		else if (oldHigh > newHigh) {
+			super.fireIntervalRemoved(this, newHigh + 1, oldHigh);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if further events of the current change
+	 * follow, so the elements of the source model can't be read yet.
+	 */
+	private boolean isIncomplete() {
+
+		return pendingRows != null || sourceSize != source.getSize() || source.isChanging();
+	}
+
+	private boolean isUnchanged(
+			final int oldRow, final int newRow, final int dirtyFrom, final int dirtyTo
+	) {
+		return oldRow == newRow && (oldRow < dirtyFrom || oldRow > dirtyTo);
+	}
+}
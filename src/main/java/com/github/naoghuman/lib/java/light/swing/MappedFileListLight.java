@@ -0,0 +1,523 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.EventListenerList;
+
+/**
+ * Read-only implementation of the <code>List</code> interface which shows
+ * the records from a file. The file is mapped with
+ * <code>FileChannel.map</code> in regions of 64 megabytes. A region is
+ * mapped with the first access to one of its records and only the pages
+ * which are really read are loaded by the operating system. So a
+ * <code>ListModelLight</code> can present a file with several gigabytes
+ * without reading it:
+ * <pre>
+ * final MappedFileListLight&lt;String&gt; records = new MappedFileListLight&lt;String&gt;(file, codec);
+ * final ListModelLight model = ListModelLight.forList(records);
+ * </pre>
+ *
+ * The file can contain records with a fixed length (see
+ * {@link #MappedFileListLight(File, RecordCodecLight)}) or records with a
+ * variable length which are terminated by a delimiter byte (see
+ * {@link #MappedFileListLight(File, RecordCodecLight, byte)}). For the
+ * second format the file is indexed on a background thread: the list
+ * starts empty and grows on the event dispatch thread after every scanned
+ * region, the change listeners (and so a <code>ListModelLight</code>) are
+ * informed about the new records. Only the start from every 64th record is
+ * kept, the records in between are found by reading forward from it.<p>
+ *
+ * The file must not be modified while it is mapped. <code>close()</code>
+ * closes the file and stops the indexing, the mapped regions are released
+ * by the garbage collector.<p>
+ *
+ * <b>Benötigte Klassen:</b><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.RecordCodecLight</code>
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ */
+public class MappedFileListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess, Closeable {
+
+	/**
+	 * The maximal size from one mapped region in bytes.
+	 */
+	private static final int REGION_BYTES = 1 << 26;
+
+	/**
+	 * The start from every record with an index which is a multiple of this
+	 * value is kept in the index.
+	 */
+	private static final int BLOCK_RECORDS = 64;
+
+	/**
+	 * The last located record, so reading the records in order doesn't
+	 * start at the indexed record again.
+	 */
+	private static final class Cursor {
+
+		private final int index;
+		private final long start;
+
+		private Cursor(final int index, final long start) {
+
+			this.index = index;
+			this.start = start;
+		}
+	}
+
+	private final RecordCodecLight<E> codec;
+	private final long fileSize;
+	private final long regionBytes;
+	private final int recordSize;
+	private final byte delimiter;
+
+	private final EventListenerList listenerList = new EventListenerList();
+
+	/*
+	 * The index for records with a variable length, written by the index
+	 * thread: blocks[k] is the start from the record k * BLOCK_RECORDS. The
+	 * entries for the first indexed records are never changed again.
+	 */
+	private volatile long[] blocks = null;
+	private volatile int indexed = 0;
+	private volatile IOException indexException = null;
+
+	/**
+	 * The number of records in this list, which grows on the event dispatch
+	 * thread while the file is indexed.
+	 */
+	private volatile int size = 0;
+	private volatile boolean complete = Boolean.FALSE;
+
+	private volatile Cursor cursor = null;
+
+	private volatile FileChannel channel = null;
+	private MappedByteBuffer[] regions = null;
+
+	/**
+	 * Maps a file with records of a fixed length. The length is defined by
+	 * <code>codec.getRecordSize()</code>, a incomplete record at the end of
+	 * the file is ignored.
+	 *
+	 * @param file the file which should be mapped.
+	 * @param codec the codec to decode the records.
+	 * @throws IOException if the file can't be opened.
+	 */
+	public MappedFileListLight(final File file, final RecordCodecLight<E> codec)
+			throws IOException {
+
+		this.codec = codec;
+		recordSize = codec.getRecordSize();
+		delimiter = 0;
+		if (recordSize <= 0) {
+			throw new IllegalArgumentException(
+					"Illegal record size: " + recordSize);
+		}
+
+		channel = new RandomAccessFile(file, "r").getChannel();
+		try {
+			fileSize = channel.size();
+			regionBytes = (long) Math.max(1, REGION_BYTES / recordSize) * recordSize;
+			regions = new MappedByteBuffer[(int) ((fileSize + regionBytes - 1) / regionBytes)];
+
+			final long records = fileSize / recordSize;
+			if (records > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException(
+						"Too many records: " + records);
+			}
+			size = (int) records;
+			complete = Boolean.TRUE;
+		} catch (final IOException | RuntimeException e) {
+
+			closeAfterFailure(channel, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Maps a file with records of a variable length. Every record ends with
+	 * the <code>delimiter</code>, the last record may end without it. The
+	 * delimiter isn't part of the record which is passed to the codec, the
+	 * record size from the codec is ignored.<p>
+	 *
+	 * The constructor doesn't read the file, it is indexed on a background
+	 * thread. The list is empty at first and grows on the event dispatch
+	 * thread (see {@link #addChangeListener(ChangeListener)}). For a text
+	 * file with lines use <code>'\n'</code> as delimiter.
+	 *
+	 * @param file the file which should be mapped.
+	 * @param codec the codec to decode the records.
+	 * @param delimiter the byte which terminates a record.
+	 * @throws IOException if the file can't be opened.
+	 */
+	public MappedFileListLight(
+			final File file, final RecordCodecLight<E> codec, final byte delimiter
+	) throws IOException {
+
+		this.codec = codec;
+		this.delimiter = delimiter;
+		recordSize = -1;
+		regionBytes = REGION_BYTES;
+
+		final FileChannel fileChannel = new RandomAccessFile(file, "r").getChannel();
+		channel = fileChannel;
+		try {
+			fileSize = fileChannel.size();
+			regions = new MappedByteBuffer[(int) ((fileSize + regionBytes - 1) / regionBytes)];
+			blocks = new long[16];
+		} catch (final IOException | RuntimeException e) {
+
+			closeAfterFailure(fileChannel, e);
+			throw e;
+		}
+
+		final Thread thread = new Thread(new Runnable() {
+
+			@Override
+			public void run() { MappedFileListLight.this.index(fileChannel); }
+		}, "MappedFileListLight");
+		thread.setDaemon(Boolean.TRUE);
+		thread.start();
+	}
+
+	/**
+	 * Adds a listener which is informed on the event dispatch thread when
+	 * this list has grown, because more records were indexed.
+	 *
+	 * @param listener the listener.
+	 */
+	public void addChangeListener(final ChangeListener listener) {
+
+		listenerList.add(ChangeListener.class, listener);
+	}
+
+	/**
+	 * Closes the file. Every further access to this list throws an
+	 * <code>IllegalStateException</code> and the indexing stops.
+	 *
+	 * @throws IOException if the file can't be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+
+		final FileChannel fileChannel = channel;
+		if (fileChannel != null) {
+
+			channel = null;
+			regions = null;
+			fileChannel.close();
+		}
+	}
+
+	/**
+	 * Closes the file after the constructor has failed. An exception from
+	 * closing is added to the failure.
+	 */
+	private static void closeAfterFailure(final FileChannel fileChannel, final Exception failure) {
+
+		try {
+			fileChannel.close();
+		} catch (final IOException e) {
+			failure.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Returns the position of the next delimiter from the specified position
+	 * on, or the file size if there is none.
+	 */
+	private long findDelimiter(final long from) {
+
+		long position = from;
+		while (position < fileSize) {
+
+			final int r = (int) (position / regionBytes);
+			final long regionStart = r * regionBytes;
+			final MappedByteBuffer region = this.getRegion(r);
+			final int limit = region.limit();
+			for (int i = (int) (position - regionStart); i < limit; i++) {
+				if (region.get(i) == delimiter) { return regionStart + i; }
+			}
+			position = regionStart + limit;
+		}
+
+		return fileSize;
+	}
+
+	/**
+	 * Returns the start from the record with a variable length. The record
+	 * is found from the last located or the indexed record before it.
+	 */
+	private long findStart(final int index) {
+
+		final int first = index - index % BLOCK_RECORDS;
+		final Cursor last = cursor;
+
+		int current;
+		long start;
+		if (last != null && last.index <= index && last.index >= first) {
+
+			current = last.index;
+			start = last.start;
+		}
+		else {
+			current = first;
+			start = blocks[first / BLOCK_RECORDS];
+		}
+
+		while (current < index) {
+
+			start = this.findDelimiter(start) + 1;
+			current++;
+		}
+		cursor = new Cursor(index, start);
+
+		return start;
+	}
+
+	/**
+	 * Informs the listeners about new records.
+	 */
+	private void fireStateChanged() {
+
+		final Object[] listeners = listenerList.getListenerList();
+		ChangeEvent event = null;
+		for (int i = listeners.length - 2; i >= 0; i -= 2) {
+
+			if (listeners[i] == ChangeListener.class) {
+
+				if (event == null) { event = new ChangeEvent(this); }
+				((ChangeListener) listeners[i + 1]).stateChanged(event);
+			}
+		}
+	}
+
+	/**
+	 * Returns the record at the specified position in this list. The record
+	 * is decoded with every call.
+	 *
+	 * @param  index index of the record to return.
+	 * @return the decoded record at the specified position in this list.
+	 * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+	 * 		  &lt; 0 || index &gt;= size())</code>.
+	 */
+	@Override
+	public final E get(final int index) {
+
+		if (index >= size || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ size
+		    		);
+		}
+
+		final long start;
+		final int length;
+		if (recordSize > 0) {
+
+			start = (long) index * recordSize;
+			length = recordSize;
+		}
+		else {
+
+			start = this.findStart(index);
+			length = (int) (this.findDelimiter(start) - start);
+		}
+
+		final int r = (int) (start / regionBytes);
+		final int offset = (int) (start - r * regionBytes);
+		final MappedByteBuffer region = this.getRegion(r);
+		if (offset + length <= region.limit()) {
+			return codec.decode(region, offset, length);
+		}
+
+		// The record crosses the border between two regions.
+		final byte[] bytes = new byte[length];
+		int done = 0;
+		int current = r;
+		int position = offset;
+		while (done < length) {
+
+			final ByteBuffer source = this.getRegion(current).duplicate();
+			source.position(position);
+			final int count = Math.min(length - done, source.remaining());
+			source.get(bytes, done, count);
+			done += count;
+			current++;
+			position = 0;
+		}
+
+		return codec.decode(ByteBuffer.wrap(bytes), 0, length);
+	}
+
+	/**
+	 * Returns the exception which has stopped the indexing, or
+	 * <code>null</code>.
+	 *
+	 * @return the exception or <code>null</code>.
+	 */
+	public IOException getIndexException() { return indexException; }
+
+	private MappedByteBuffer getRegion(final int index) {
+
+		final FileChannel fileChannel = channel;
+		final MappedByteBuffer[] mapped = regions;
+		if (fileChannel == null || mapped == null) {
+			throw new IllegalStateException("The file is closed.");
+		}
+
+		MappedByteBuffer region = mapped[index];
+		if (region == null) {
+
+			final long start = index * regionBytes;
+			try {
+				region = fileChannel.map(
+						FileChannel.MapMode.READ_ONLY,
+						start, Math.min(regionBytes, fileSize - start)
+						);
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			mapped[index] = region;
+		}
+
+		return region;
+	}
+
+	/**
+	 * Returns the number of records in this list.
+	 *
+	 * @return the number of records.
+	 */
+	public int getSize() { return size; }
+
+	/**
+	 * Scans the file for the delimiters on the index thread. The regions
+	 * are mapped only for the scan, so they don't stay alive.
+	 */
+	private void index(final FileChannel fileChannel) {
+
+		final int regionCount = (int) ((fileSize + regionBytes - 1) / regionBytes);
+		long[] starts = blocks;
+		int records = 0;
+		long lastStart = 0L;
+		try {
+			for (int r = 0; r < regionCount; r++) {
+
+				if (channel == null) { return; }
+
+				final long regionStart = r * regionBytes;
+				final MappedByteBuffer region = fileChannel.map(
+						FileChannel.MapMode.READ_ONLY,
+						regionStart, Math.min(regionBytes, fileSize - regionStart)
+						);
+				final int limit = region.limit();
+				for (int i = 0; i < limit; i++) {
+
+					if (region.get(i) == delimiter) {
+
+						records++;
+						lastStart = regionStart + i + 1;
+						if (records % BLOCK_RECORDS == 0) {
+
+							final int block = records / BLOCK_RECORDS;
+							if (block == starts.length) { starts = Arrays.copyOf(starts, block * 3 / 2 + 1); }
+							starts[block] = lastStart;
+						}
+					}
+				}
+
+				if (r < regionCount - 1) { this.publishIndex(starts, records, Boolean.FALSE); }
+			}
+
+			// The last record may end without the delimiter.
+			if (lastStart < fileSize) { records++; }
+			this.publishIndex(starts, records, Boolean.TRUE);
+		} catch (final ClosedChannelException e) {
+			// The list was closed.
+		} catch (final IOException e) {
+			indexException = e;
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if all records from the file are in this
+	 * list. Records with a fixed length are known at once.
+	 *
+	 * @return <code>true</code> if the file is indexed.
+	 */
+	public boolean isIndexed() { return complete; }
+
+	/**
+	 * Publishes the indexed records and lets this list grow on the event
+	 * dispatch thread.
+	 */
+	private void publishIndex(final long[] starts, final int records, final boolean last) {
+
+		blocks = starts;
+		indexed = records;
+		SwingUtilities.invokeLater(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (channel == null) { return; }
+
+				final int newSize = indexed;
+				complete = last;
+				if (newSize > size) {
+
+					size = newSize;
+					MappedFileListLight.this.fireStateChanged();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Removes a listener which was added with
+	 * {@link #addChangeListener(ChangeListener)}.
+	 *
+	 * @param listener the listener.
+	 */
+	public void removeChangeListener(final ChangeListener listener) {
+
+		listenerList.remove(ChangeListener.class, listener);
+	}
+
+	@Override
+	public int size() { return size; }
+}
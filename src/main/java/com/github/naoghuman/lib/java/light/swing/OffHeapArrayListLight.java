@@ -0,0 +1,402 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Resizable implementation of the <code>List</code> interface which stores
+ * its elements outside from the java heap. Every element is encoded with a
+ * <code>RecordCodecLight</code> into a fixed-size record, the records are
+ * stored in chunks of direct <code>ByteBuffer</code>s.<p>
+ *
+ * Because the elements aren't referenced from the heap, a large list
+ * doesn't increase the work of the garbage collector. The price is that
+ * every call of <code>get(int)</code> decodes a new element.<p>
+ *
+ * The capacity grows and shrinks chunk by chunk: <code>ensureCapacity</code>
+ * allocates new chunks and <code>trimToSize</code> releases the unused ones,
+ * the existing records are never copied. When the list isn't needed
+ * anymore, <code>close()</code> should be called to release all chunks.
+ * Java 8 doesn't provide a way to free direct memory immediately, so the
+ * memory is returned when the garbage collector collects the released
+ * buffers.<p>
+ *
+ * <b>Benötigte Klassen:</b><br>
+ *  - <code>com.github.naoghuman.lib.java.light.swing.RecordCodecLight</code>
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ArrayListLight
+ */
+public class OffHeapArrayListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess, Closeable {
+
+	/**
+	 * The default size from one chunk in bytes.
+	 */
+	private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+	private final RecordCodecLight<E> codec;
+	private final int recordSize;
+	private final int chunkShift;
+	private final int chunkMask;
+
+	/**
+	 * The chunks in which the records are stored. Only the first
+	 * <code>chunkCount</code> entries are allocated.
+	 */
+	private ByteBuffer[] chunks = null;
+	private int chunkCount = 0;
+
+	/**
+	 * Temporary buffer to move records inside and between the chunks.
+	 */
+	private byte[] moveBuffer = null;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+	private int size = 0;
+
+	/**
+	 * Constructs an empty list with chunks of about one megabyte.
+	 *
+	 * @param codec the codec to encode and decode the elements.
+	 */
+	public OffHeapArrayListLight(final RecordCodecLight<E> codec) {
+
+		this(codec, Math.max(1, DEFAULT_CHUNK_BYTES / codec.getRecordSize()));
+	}
+
+	/**
+	 * Constructs an empty list. Every chunk can store
+	 * <code>recordsPerChunk</code> records, the value is rounded down to a
+	 * power of two.
+	 *
+	 * @param codec the codec to encode and decode the elements.
+	 * @param recordsPerChunk the number of records per chunk.
+	 * @exception IllegalArgumentException if the record size from the codec
+	 *            or <code>recordsPerChunk</code> isn't positive.
+	 */
+	public OffHeapArrayListLight(
+			final RecordCodecLight<E> codec, final int recordsPerChunk
+	) {
+		super();
+
+		if (codec.getRecordSize() <= 0) {
+			throw new IllegalArgumentException(
+					"Illegal record size: " + codec.getRecordSize());
+		}
+		if (recordsPerChunk <= 0) {
+			throw new IllegalArgumentException(
+					"Illegal records per chunk: " + recordsPerChunk);
+		}
+
+		this.codec = codec;
+		recordSize = codec.getRecordSize();
+		chunkShift = Integer.numberOfTrailingZeros(Integer.highestOneBit(recordsPerChunk));
+		chunkMask = (1 << chunkShift) - 1;
+		chunks = new ByteBuffer[4];
+	}
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param o element to be appended to this list.
+     * @return <code>true</code> (as per the general contract of Collection.add()).
+     */
+	@Override
+	public final boolean add(final E o) {
+
+		this.ensureCapacity(size + 1);
+		this.write(size++, o);
+
+		return Boolean.TRUE;
+	}
+
+    /**
+	 * Inserts the specified element at the specified position in this list.
+	 * Shifts the element currently at that position (if any) and any subsequent
+	 * elements to the right (adds one to their indices).
+	 *
+	 * @param index index at which the specified element is to be inserted.
+	 * @param element element to be inserted.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	@Override
+	public final void add(final int index, final E element) {
+
+		if (index > size || index < 0) {
+
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size
+					);
+		}
+
+		this.ensureCapacity(size + 1);
+		this.move(index, index + 1, size - index);
+		this.write(index, element);
+		size++;
+	}
+
+    /**
+     * Removes all of the elements from this list. The list will
+     * be empty after this call returns. The chunks are kept, use
+     * <code>trimToSize()</code> to release them.
+     */
+	@Override
+	public void clear() {
+
+		modCount++;
+		size = 0;
+	}
+
+	/**
+	 * Releases all chunks from this list. Every further access to this list
+	 * throws an <code>IllegalStateException</code>.
+	 */
+	@Override
+	public void close() {
+
+		modCount++;
+		chunks = null;
+		chunkCount = 0;
+		moveBuffer = null;
+		size = 0;
+	}
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument. New chunks are allocated, the existing records
+     * aren't copied.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+	public final void ensureCapacity(final int minCapacity) {
+
+		this.checkOpen();
+		modCount++;
+		while (this.getLength() < minCapacity) {
+
+			if (chunkCount == chunks.length) {
+
+				final ByteBuffer[] oldChunks = chunks;
+				chunks = new ByteBuffer[oldChunks.length * 2];
+				System.arraycopy(oldChunks, 0, chunks, 0, chunkCount);
+			}
+
+			chunks[chunkCount++] = ByteBuffer.allocateDirect((chunkMask + 1) * recordSize);
+		}
+	}
+
+    /**
+     * Returns the element at the specified position in this list. The
+     * element is decoded from its record with every call.
+     *
+     * @param  index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	public final E get(final int index) {
+
+		this.rangeCheck(index);
+
+		return codec.decode(
+				chunks[index >>> chunkShift],
+				(index & chunkMask) * recordSize, recordSize
+				);
+	}
+
+	/**
+	 * Returns the capacity of this list. This is the number of records
+	 * which fits into the allocated chunks.
+	 *
+	 * @return the capacity of this list.
+	 */
+	public int getLength() { return chunkCount << chunkShift; }
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return the number of elements.
+	 */
+	public int getSize() { return size; }
+
+	/**
+	 * Returns <code>true</code> if <code>close()</code> was called.
+	 *
+	 * @return <code>true</code> if this list is closed.
+	 */
+	public boolean isClosed() { return chunks == null; }
+
+	private void checkOpen() {
+
+		if (chunks == null) {
+			throw new IllegalStateException("The list is closed.");
+		}
+	}
+
+	/**
+	 * Moves <code>count</code> records from index <code>from</code> to index
+	 * <code>to</code>. The ranges may overlap. The records are copied in
+	 * segments which don't cross a chunk border.
+	 */
+	private void move(final int from, final int to, final int count) {
+
+		if (count <= 0 || from == to) { return; }
+
+		final int chunkRecords = chunkMask + 1;
+		if (moveBuffer == null) { moveBuffer = new byte[chunkRecords * recordSize]; }
+
+		final boolean backward = to > from;
+		int done = 0;
+		while (done < count) {
+
+			final int remaining = count - done;
+			final int src;
+			final int dst;
+			int length;
+			if (backward) {
+
+				// The last records first, so no record is overwritten before it was moved.
+				final int srcEnd = from + remaining;
+				final int dstEnd = to + remaining;
+				length = Math.min(remaining, Math.min(
+						((srcEnd - 1) & chunkMask) + 1,
+						((dstEnd - 1) & chunkMask) + 1
+						));
+				src = srcEnd - length;
+				dst = dstEnd - length;
+			}
+			else {
+
+				src = from + done;
+				dst = to + done;
+				length = Math.min(remaining, Math.min(
+						chunkRecords - (src & chunkMask),
+						chunkRecords - (dst & chunkMask)
+						));
+			}
+
+			final ByteBuffer srcChunk = chunks[src >>> chunkShift].duplicate();
+			srcChunk.position((src & chunkMask) * recordSize);
+			srcChunk.get(moveBuffer, 0, length * recordSize);
+
+			final ByteBuffer dstChunk = chunks[dst >>> chunkShift].duplicate();
+			dstChunk.position((dst & chunkMask) * recordSize);
+			dstChunk.put(moveBuffer, 0, length * recordSize);
+
+			done += length;
+		}
+	}
+
+    /**
+     * Check if the given index is in range. If not, throw an appropriate
+     * runtime exception.
+     */
+	private void rangeCheck(final int index) {
+
+		this.checkOpen();
+		if (index >= size || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ size
+		    		);
+		}
+	}
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their
+     * indices).
+     *
+     * @param index the index of the element to removed.
+     * @return the element that was removed from the list.
+     * @throws  IndexOutOfBoundsException if index out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	public final E remove(final int index) {
+
+		final E oldValue = this.get(index);
+
+		modCount++;
+		this.move(index + 1, index, size - index - 1);
+		size--;
+
+		return oldValue;
+	}
+
+	/**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index out of range
+     *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+     */
+	public final E replace(final int index, final E element) {
+
+		final E oldValue = this.get(index);
+		this.write(index, element);
+
+		return oldValue;
+	}
+
+	@Override
+	public final E set(final int index, final E element) {
+
+		return this.replace(index, element);
+	}
+
+	@Override
+	public int size() { return size; }
+
+    /**
+	 * Trims the capacity of this list to the chunks which are needed for the
+	 * current size. The unused chunks are released, the records aren't
+	 * copied.
+	 */
+	public void trimToSize() {
+
+		this.checkOpen();
+		modCount++;
+		final int needed = (size + chunkMask) >>> chunkShift;
+		while (chunkCount > needed) { chunks[--chunkCount] = null; }
+
+		if (chunkCount == 0) { moveBuffer = null; }
+	}
+
+	private void write(final int index, final E element) {
+
+		codec.encode(
+				element, chunks[index >>> chunkShift],
+				(index & chunkMask) * recordSize
+				);
+	}
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Immutable (<i>persistent</i>) implementation of the <code>List</code>
+ * interface. Every change returns a new version of the list, the old
+ * version stays unchanged and usable. The versions share all parts of their
+ * structure which weren't changed.<p>
+ *
+ * The elements are stored in leaves with up to 32 elements, the leaves are
+ * the bottom of a balanced (AVL) binary tree. A change copies only one leaf
+ * and the nodes on the path to it, so:
+ * <ul>
+ * <li><code>get</code>, <code>plus</code>, <code>minus</code> and
+ * <code>with</code> run in <code>O(log n)</code> time,</li>
+ * <li>every new version costs only some hundred bytes, so an undo history
+ * with hundreds of versions from a large list is cheap,</li>
+ * <li><code>concat</code> joins two lists in <code>O(log n)</code>
+ * time without copying elements.</li>
+ * </ul>
+ * All methods from the <code>List</code> interface which would change the
+ * list throw an <code>UnsupportedOperationException</code>. To show a
+ * version in a <code>ListModelLight</code> use
+ * {@link ListModelLight#setList(List)}, which only fires events for the
+ * changed part of the list.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ */
+public final class PersistentListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess {
+
+	/**
+	 * The maximal number of elements in a leaf.
+	 */
+	private static final int LEAF_SIZE = 32;
+
+	private static final PersistentListLight<Object> EMPTY = new PersistentListLight<Object>(null);
+
+	private abstract static class Node {
+
+		private final int size;
+		private final int height;
+
+		private Node(final int size, final int height) {
+
+			this.size = size;
+			this.height = height;
+		}
+	}
+
+	private static final class Leaf extends Node {
+
+		private final Object[] elements;
+
+		private Leaf(final Object[] elements) {
+
+			super(elements.length, 0);
+			this.elements = elements;
+		}
+	}
+
+	private static final class Branch extends Node {
+
+		private final Node left;
+		private final Node right;
+
+		private Branch(final Node left, final Node right) {
+
+			super(left.size + right.size, Math.max(left.height, right.height) + 1);
+			this.left = left;
+			this.right = right;
+		}
+	}
+
+	private final Node root;
+
+	private PersistentListLight(final Node root) {
+
+		super();
+		this.root = root;
+	}
+
+	/**
+	 * Returns the empty list.
+	 *
+	 * @return the empty list.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentListLight<E> empty() {
+
+		return (PersistentListLight<E>) EMPTY;
+	}
+
+	/**
+	 * Returns a list with the elements from the array. The array is copied.
+	 *
+	 * @param elements the elements of the list.
+	 * @return the new list.
+	 */
+	public static <E> PersistentListLight<E> of(final E[] elements) {
+
+		if (elements.length == 0) { return empty(); }
+
+		final int leaves = (elements.length + LEAF_SIZE - 1) / LEAF_SIZE;
+		final Node[] nodes = new Node[leaves];
+		for (int i = 0; i < leaves; i++) {
+
+			final int from = i * LEAF_SIZE;
+			final Object[] leaf = new Object[Math.min(LEAF_SIZE, elements.length - from)];
+			System.arraycopy(elements, from, leaf, 0, leaf.length);
+			nodes[i] = new Leaf(leaf);
+		}
+
+		return new PersistentListLight<E>(build(nodes, 0, leaves));
+	}
+
+	/**
+	 * Builds a balanced tree over the nodes <code>[from, to)</code>.
+	 */
+	private static Node build(final Node[] nodes, final int from, final int to) {
+
+		if (to - from == 1) { return nodes[from]; }
+
+		final int mid = (from + to) >>> 1;
+
+		return new Branch(build(nodes, from, mid), build(nodes, mid, to));
+	}
+
+	/**
+	 * Joins two trees, where all elements from <code>left</code> are before
+	 * the elements from <code>right</code>. Both trees must be balanced and
+	 * their heights may differ by at most two.
+	 */
+	private static Node balance(final Node left, final Node right) {
+
+		if (left.height > right.height + 1) {
+
+			final Branch l = (Branch) left;
+			if (l.left.height >= l.right.height) {
+				return new Branch(l.left, new Branch(l.right, right));
+			}
+
+			final Branch lr = (Branch) l.right;
+			return new Branch(new Branch(l.left, lr.left), new Branch(lr.right, right));
+		}
+
+		if (right.height > left.height + 1) {
+
+			final Branch r = (Branch) right;
+			if (r.right.height >= r.left.height) {
+				return new Branch(new Branch(left, r.left), r.right);
+			}
+
+			final Branch rl = (Branch) r.left;
+			return new Branch(new Branch(left, rl.left), new Branch(rl.right, r.right));
+		}
+
+		return new Branch(left, right);
+	}
+
+	/**
+	 * Joins two balanced trees with any heights.
+	 */
+	private static Node join(final Node left, final Node right) {
+
+		if (left == null) { return right; }
+		if (right == null) { return left; }
+
+		if (left.height > right.height + 1) {
+
+			final Branch l = (Branch) left;
+			return balance(l.left, join(l.right, right));
+		}
+		if (right.height > left.height + 1) {
+
+			final Branch r = (Branch) right;
+			return balance(join(left, r.left), r.right);
+		}
+
+		return new Branch(left, right);
+	}
+
+	private static Node insert(final Node node, final int index, final Object element) {
+
+		if (node instanceof Leaf) {
+
+			final Object[] old = ((Leaf) node).elements;
+			final Object[] elements = new Object[old.length + 1];
+			System.arraycopy(old, 0, elements, 0, index);
+			System.arraycopy(old, index, elements, index + 1, old.length - index);
+			elements[index] = element;
+			if (elements.length <= LEAF_SIZE) { return new Leaf(elements); }
+
+			final int half = elements.length / 2;
+			final Object[] first = new Object[half];
+			final Object[] second = new Object[elements.length - half];
+			System.arraycopy(elements, 0, first, 0, half);
+			System.arraycopy(elements, half, second, 0, second.length);
+
+			return new Branch(new Leaf(first), new Leaf(second));
+		}
+
+		final Branch b = (Branch) node;
+		if (index < b.left.size) {
+			return balance(insert(b.left, index, element), b.right);
+		}
+
+		return balance(b.left, insert(b.right, index - b.left.size, element));
+	}
+
+	private static Node remove(final Node node, final int index) {
+
+		if (node instanceof Leaf) {
+
+			final Object[] old = ((Leaf) node).elements;
+			if (old.length == 1) { return null; }
+
+			final Object[] elements = new Object[old.length - 1];
+			System.arraycopy(old, 0, elements, 0, index);
+			System.arraycopy(old, index + 1, elements, index, old.length - index - 1);
+
+			return new Leaf(elements);
+		}
+
+		final Branch b = (Branch) node;
+		final Node left;
+		final Node right;
+		if (index < b.left.size) {
+
+			left = remove(b.left, index);
+			right = b.right;
+		}
+		else {
+
+			left = b.left;
+			right = remove(b.right, index - b.left.size);
+		}
+
+		if (left == null) { return right; }
+		if (right == null) { return left; }
+		if (left instanceof Leaf && right instanceof Leaf && left.size + right.size <= LEAF_SIZE) {
+
+			// Two small neighbour leaves are merged, so the leaves stay dense.
+			final Object[] elements = new Object[left.size + right.size];
+			System.arraycopy(((Leaf) left).elements, 0, elements, 0, left.size);
+			System.arraycopy(((Leaf) right).elements, 0, elements, left.size, right.size);
+
+			return new Leaf(elements);
+		}
+
+		return balance(left, right);
+	}
+
+	private static Node replace(final Node node, final int index, final Object element) {
+
+		if (node instanceof Leaf) {
+
+			final Object[] elements = ((Leaf) node).elements.clone();
+			elements[index] = element;
+
+			return new Leaf(elements);
+		}
+
+		final Branch b = (Branch) node;
+		if (index < b.left.size) {
+			return new Branch(replace(b.left, index, element), b.right);
+		}
+
+		return new Branch(b.left, replace(b.right, index - b.left.size, element));
+	}
+
+	private void checkPositionIndex(final int index) {
+
+		if (index > this.size() || index < 0) {
+
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + this.size()
+					);
+		}
+	}
+
+	/**
+	 * Returns a new list with the elements from this list followed by the
+	 * elements from <code>other</code>. Both lists are shared, no element
+	 * is copied.
+	 *
+	 * @param other the list which should be appended.
+	 * @return the new list.
+	 */
+	public PersistentListLight<E> concat(final PersistentListLight<? extends E> other) {
+
+		if (other.root == null) { return this; }
+		if (root == null) {
+
+			@SuppressWarnings("unchecked")
+			final PersistentListLight<E> result = (PersistentListLight<E>) other;
+			return result;
+		}
+
+		return new PersistentListLight<E>(join(root, other.root));
+	}
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(final int index) {
+
+		if (index >= this.size() || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ this.size()
+		    		);
+		}
+
+		Node node = root;
+		int i = index;
+		while (node instanceof Branch) {
+
+			final Branch b = (Branch) node;
+			if (i < b.left.size) {
+				node = b.left;
+			}
+			else {
+				i -= b.left.size;
+				node = b.right;
+			}
+		}
+
+		return (E) ((Leaf) node).elements[i];
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return the number of elements.
+	 */
+	public int getSize() { return this.size(); }
+
+	/**
+	 * Returns an iterator which walks from leaf to leaf, so the iteration
+	 * over the whole list runs in linear time.
+	 *
+	 * @return an iterator over the elements in this list.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+
+		return new Iterator<E>() {
+
+			private final Deque<Node> stack = new ArrayDeque<Node>();
+			private Object[] leaf = null;
+			private int cursor = 0;
+
+			{
+				if (root != null) { stack.push(root); }
+			}
+
+			@Override
+			public boolean hasNext() {
+
+				while (leaf == null || cursor >= leaf.length) {
+
+					if (stack.isEmpty()) { return false; }
+
+					Node node = stack.pop();
+					while (node instanceof Branch) {
+
+						stack.push(((Branch) node).right);
+						node = ((Branch) node).left;
+					}
+					leaf = ((Leaf) node).elements;
+					cursor = 0;
+				}
+
+				return true;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+
+				if (!this.hasNext()) { throw new NoSuchElementException(); }
+
+				return (E) leaf[cursor++];
+			}
+		};
+	}
+
+	/**
+	 * Returns a new list without the element at the specified position.
+	 *
+	 * @param index the index of the element to removed.
+	 * @return the new list.
+	 * @throws  IndexOutOfBoundsException if index out of range <code>(index
+	 * 		  &lt; 0 || index &gt;= size())</code>.
+	 */
+	public PersistentListLight<E> minus(final int index) {
+
+		this.get(index);
+
+		return new PersistentListLight<E>(remove(root, index));
+	}
+
+	/**
+	 * Returns a new list with the specified element appended to the end
+	 * of this list.
+	 *
+	 * @param element element to be appended.
+	 * @return the new list.
+	 */
+	public PersistentListLight<E> plus(final E element) {
+
+		return this.plus(this.size(), element);
+	}
+
+	/**
+	 * Returns a new list with the specified element inserted at the
+	 * specified position.
+	 *
+	 * @param index index at which the specified element is to be inserted.
+	 * @param element element to be inserted.
+	 * @return the new list.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 */
+	public PersistentListLight<E> plus(final int index, final E element) {
+
+		this.checkPositionIndex(index);
+		if (root == null) {
+			return new PersistentListLight<E>(new Leaf(new Object[] { element }));
+		}
+
+		return new PersistentListLight<E>(insert(root, index, element));
+	}
+
+	@Override
+	public int size() { return (root == null) ? 0 : root.size; }
+
+	/**
+	 * Returns a new list where the element at the specified position is
+	 * replaced with the specified element.
+	 *
+	 * @param index index of element to replace.
+	 * @param element element to be stored at the specified position.
+	 * @return the new list.
+	 * @throws IndexOutOfBoundsException if index out of range
+	 *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+	 */
+	public PersistentListLight<E> with(final int index, final E element) {
+
+		this.get(index);
+
+		return new PersistentListLight<E>(replace(root, index, element));
+	}
+}
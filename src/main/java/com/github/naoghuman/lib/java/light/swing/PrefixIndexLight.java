@@ -0,0 +1,491 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.io.Closeable;
+import java.util.Comparator;
+
+import javax.swing.ListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.text.Position;
+
+/**
+ * A prefix index over the elements of a <code>ListModel</code> for the
+ * type-ahead of a list. Like <code>JList.getNextMatch()</code> the
+ * elements are matched case insensitive by the start of their
+ * <code>toString()</code> value (or the string from the
+ * <code>DisplayKeyCacheLight</code> of the model), but without reading all
+ * elements for every search.<p>
+ *
+ * If the elements of the model are ordered case insensitive by their
+ * strings, the index holds no data and the matching rows are located with
+ * a binary search in the model. Otherwise the index keeps the strings with
+ * their row indices sorted in two arrays, so a prefix is located with a
+ * binary search, too. The index listens to the model and updates the
+ * arrays incrementally. It is built when it's used the first time and
+ * again after large changes.<p>
+ *
+ * All methods must be called on the event dispatch thread. If the index
+ * isn't needed anymore, <code>close()</code> removes it from the listeners
+ * of the model.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ListLight
+ */
+public final class PrefixIndexLight implements ListDataListener, Closeable {
+
+	/**
+	 * Orders the entries by their string (case insensitive) and then by
+	 * their row.
+	 */
+	private final Comparator<Integer> entryComparator = new Comparator<Integer>() {
+
+		@Override
+		public int compare(final Integer entry1, final Integer entry2) {
+
+			return PrefixIndexLight.this.compareEntries(
+					buildKeys[entry1 - buildFrom], entry1, buildKeys[entry2 - buildFrom], entry2);
+		}
+	};
+
+	private final ListModel model;
+
+	/**
+	 * Flag if the index matches the model. An invalid index ignores all
+	 * events and is built again with the next search.
+	 */
+	private boolean valid = Boolean.FALSE;
+
+	/**
+	 * Flag if the elements of the model are ordered by their strings, then
+	 * the arrays aren't used.
+	 */
+	private boolean ordered = Boolean.FALSE;
+
+	/*
+	 * The strings and the rows of the elements which aren't null, ordered
+	 * by entryComparator. Only the first count entries are used.
+	 */
+	private String[] keys = new String[0];
+	private int[] rows = new int[0];
+	private int count = 0;
+
+	/*
+	 * The strings of the rows from buildFrom while the index is built or
+	 * extended, buildKeys[row - buildFrom] is the string of the row.
+	 */
+	private String[] buildKeys = null;
+	private int buildFrom = 0;
+
+	/**
+	 * Creates an index for the specified model.
+	 *
+	 * @param model the model with the elements.
+	 */
+	public PrefixIndexLight(final ListModel model) {
+
+		this.model = model;
+		model.addListDataListener(this);
+	}
+
+	/**
+	 * Locates the matching rows with a binary search in the model.
+	 * Returns the first (index 0) and the last matching row plus one
+	 * (index 1).
+	 */
+	private int[] bounds(final String prefix) {
+
+		int low = 0;
+		int high = model.getSize();
+		while (low < high) {
+
+			final int mid = (low + high) >>> 1;
+			if (comparePrefix(this.key(mid), prefix) < 0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		final int first = low;
+		high = model.getSize();
+		while (low < high) {
+
+			final int mid = (low + high) >>> 1;
+			if (comparePrefix(this.key(mid), prefix) <= 0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		return new int[] { first, low };
+	}
+
+	/**
+	 * Builds the index from all elements of the model.
+	 */
+	private void build() {
+
+		final int size = model.getSize();
+		buildKeys = new String[size];
+		buildFrom = 0;
+		ordered = Boolean.TRUE;
+		int entries = 0;
+		for (int row = 0; row < size; row++) {
+
+			buildKeys[row] = this.key(row);
+			if (buildKeys[row] == null) {
+				ordered = Boolean.FALSE;
+				continue;
+			}
+
+			entries++;
+			if (
+					ordered && row > 0
+					&& String.CASE_INSENSITIVE_ORDER.compare(buildKeys[row - 1], buildKeys[row]) > 0
+			) {
+				ordered = Boolean.FALSE;
+			}
+		}
+
+		if (ordered) {
+
+			keys = new String[0];
+			rows = new int[0];
+			count = 0;
+		}
+		else {
+
+			final Integer[] sorted = new Integer[entries];
+			int e = 0;
+			for (int row = 0; row < size; row++) {
+				if (buildKeys[row] != null) { sorted[e++] = row; }
+			}
+			ArrayListLight.sort(sorted, 0, entries, entryComparator);
+
+			keys = new String[entries];
+			rows = new int[entries];
+			for (int i = 0; i < entries; i++) {
+
+				rows[i] = sorted[i];
+				keys[i] = buildKeys[rows[i]];
+			}
+			count = entries;
+		}
+
+		buildKeys = null;
+		valid = Boolean.TRUE;
+	}
+
+	/**
+	 * Removes this index from the listeners of the model.
+	 */
+	@Override
+	public void close() { model.removeListDataListener(this); }
+
+	private int compareEntries(
+			final String key1, final int row1, final String key2, final int row2
+	) {
+		final int result = String.CASE_INSENSITIVE_ORDER.compare(key1, key2);
+		if (result != 0) { return result; }
+
+		return (row1 < row2) ? -1 : ((row1 == row2) ? 0 : 1);
+	}
+
+	/**
+	 * Compares the start of the key with the prefix like
+	 * <code>String.CASE_INSENSITIVE_ORDER</code>. A key which starts with
+	 * the prefix is equal to it.
+	 */
+	private static int comparePrefix(final String key, final String prefix) {
+
+		if (key == null) { return -1; }
+
+		final int length = Math.min(key.length(), prefix.length());
+		for (int i = 0; i < length; i++) {
+
+			char c1 = key.charAt(i);
+			char c2 = prefix.charAt(i);
+			if (c1 == c2) { continue; }
+
+			c1 = Character.toUpperCase(c1);
+			c2 = Character.toUpperCase(c2);
+			if (c1 == c2) { continue; }
+
+			c1 = Character.toLowerCase(c1);
+			c2 = Character.toLowerCase(c2);
+			if (c1 != c2) { return c1 - c2; }
+		}
+
+		return (key.length() < prefix.length()) ? -1 : 0;
+	}
+
+	@Override
+	public void contentsChanged(final ListDataEvent e) {
+
+		final int from = Math.min(e.getIndex0(), e.getIndex1());
+		final int to = Math.max(e.getIndex0(), e.getIndex1());
+		if (!valid) { return; }
+		if (from < 0 || this.isLarge(to - from + 1)) {
+
+			valid = Boolean.FALSE;
+			return;
+		}
+
+		if (ordered) {
+
+			this.checkOrder(from, to);
+			return;
+		}
+
+		this.removeEntries(from, to, 0);
+		this.insertEntries(from, to);
+	}
+
+	/**
+	 * Checks if the rows from <code>from - 1</code> to <code>to + 1</code>
+	 * are still ordered, otherwise the index is built again.
+	 */
+	private void checkOrder(final int from, final int to) {
+
+		final int first = Math.max(from - 1, 0);
+		final int last = Math.min(to + 1, model.getSize() - 1);
+		String previous = null;
+		for (int row = first; row <= last; row++) {
+
+			final String key = this.key(row);
+			if (
+					key == null
+					|| (row > first && String.CASE_INSENSITIVE_ORDER.compare(previous, key) > 0)
+			) {
+				valid = Boolean.FALSE;
+				return;
+			}
+			previous = key;
+		}
+	}
+
+	/**
+	 * Returns the model of this index.
+	 *
+	 * @return the model.
+	 */
+	public ListModel getModel() { return model; }
+
+	/**
+	 * Returns the next row whose string starts with the prefix (case
+	 * insensitive), like <code>JList.getNextMatch()</code>. The search
+	 * starts at <code>startIndex</code> and wraps around the end (or the
+	 * start with <code>Position.Bias.Backward</code>) of the list.
+	 *
+	 * @param prefix the string to test for a match.
+	 * @param startIndex the index for starting the search.
+	 * @param bias the search direction.
+	 * @return the index of the next matching row or -1.
+	 * @throws IllegalArgumentException if prefix is <code>null</code> or
+	 *         startIndex is out of bounds.
+	 */
+	public int getNextMatch(final String prefix, final int startIndex, final Position.Bias bias) {
+
+		final int size = model.getSize();
+		if (prefix == null) {
+			throw new IllegalArgumentException("The prefix is null.");
+		}
+		if (startIndex < 0 || startIndex >= size) {
+			throw new IllegalArgumentException("Index: " + startIndex + ", Size: " + size);
+		}
+
+		if (!valid) { this.build(); }
+
+		final boolean forward = (bias == Position.Bias.Forward);
+		if (ordered) {
+
+			final int[] bounds = this.bounds(prefix);
+			final int first = bounds[0];
+			final int last = bounds[1] - 1;
+			if (first > last) { return -1; }
+			if (startIndex >= first && startIndex <= last) { return startIndex; }
+
+			// Before the matching rows or wrapped around.
+			return forward ? first : last;
+		}
+
+		int low = 0;
+		int high = count;
+		while (low < high) {
+
+			final int mid = (low + high) >>> 1;
+			if (comparePrefix(keys[mid], prefix) < 0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		// The matching entries aren't ordered by their rows.
+		int next = -1;
+		int wrapped = -1;
+		for (int i = low; i < count && comparePrefix(keys[i], prefix) == 0; i++) {
+
+			final int row = rows[i];
+			if (forward) {
+
+				if (row >= startIndex && (next < 0 || row < next)) { next = row; }
+				if (wrapped < 0 || row < wrapped) { wrapped = row; }
+			}
+			else {
+
+				if (row <= startIndex && row > next) { next = row; }
+				if (row > wrapped) { wrapped = row; }
+			}
+		}
+
+		return (next >= 0) ? next : wrapped;
+	}
+
+	/**
+	 * Adds the entries for the rows from <code>from</code> to
+	 * <code>to</code>. The new entries are sorted and merged in place into
+	 * the arrays.
+	 */
+	private void insertEntries(final int from, final int to) {
+
+		final int size = to - from + 1;
+		buildKeys = new String[size];
+		buildFrom = from;
+		final Integer[] sorted = new Integer[size];
+		int added = 0;
+		for (int row = from; row <= to; row++) {
+
+			buildKeys[row - from] = this.key(row);
+			if (buildKeys[row - from] != null) { sorted[added++] = row; }
+		}
+		ArrayListLight.sort(sorted, 0, added, entryComparator);
+
+		if (count + added > rows.length) {
+
+			final int capacity = Math.max(count + added, rows.length + (rows.length >> 1));
+			final String[] newKeys = new String[capacity];
+			final int[] newRows = new int[capacity];
+			System.arraycopy(keys, 0, newKeys, 0, count);
+			System.arraycopy(rows, 0, newRows, 0, count);
+			keys = newKeys;
+			rows = newRows;
+		}
+
+		// From the end, so no entry is overwritten before it's moved.
+		int i = count - 1;
+		int j = added - 1;
+		for (int w = count + added - 1; j >= 0; w--) {
+
+			final int row = sorted[j];
+			if (i >= 0 && this.compareEntries(keys[i], rows[i], buildKeys[row - from], row) > 0) {
+
+				keys[w] = keys[i];
+				rows[w] = rows[i--];
+			}
+			else {
+
+				keys[w] = buildKeys[row - from];
+				rows[w] = row;
+				j--;
+			}
+		}
+		count += added;
+		buildKeys = null;
+	}
+
+	@Override
+	public void intervalAdded(final ListDataEvent e) {
+
+		final int from = Math.min(e.getIndex0(), e.getIndex1());
+		final int to = Math.max(e.getIndex0(), e.getIndex1());
+		if (!valid) { return; }
+		if (this.isLarge(to - from + 1)) {
+
+			valid = Boolean.FALSE;
+			return;
+		}
+
+		if (ordered) {
+
+			this.checkOrder(from, to);
+			return;
+		}
+
+		final int shift = to - from + 1;
+		for (int i = 0; i < count; i++) {
+			if (rows[i] >= from) { rows[i] += shift; }
+		}
+		this.insertEntries(from, to);
+	}
+
+	@Override
+	public void intervalRemoved(final ListDataEvent e) {
+
+		final int from = Math.min(e.getIndex0(), e.getIndex1());
+		final int to = Math.max(e.getIndex0(), e.getIndex1());
+		// Removed rows don't change the order of the others.
+		if (!valid || ordered) { return; }
+
+		this.removeEntries(from, to, to - from + 1);
+	}
+
+	/**
+	 * Returns <code>true</code> if so many rows are changed, that it's
+	 * cheaper to build the index again.
+	 */
+	private boolean isLarge(final int changedRows) {
+
+		return changedRows > (ordered ? model.getSize() : count) / 2 + 64;
+	}
+
+	private String key(final int row) {
+
+		final Object element = model.getElementAt(row);
+		if (element == null) { return null; }
+
+		final DisplayKeyCacheLight displayKeys = DisplayKeyCacheLight.forModel(model);
+
+		return (displayKeys != null) ? displayKeys.getKey(element) : element.toString();
+	}
+
+	/**
+	 * Removes the entries for the rows from <code>from</code> to
+	 * <code>to</code> and shifts the rows behind them by <code>shift</code>.
+	 */
+	private void removeEntries(final int from, final int to, final int shift) {
+
+		int w = 0;
+		for (int i = 0; i < count; i++) {
+
+			final int row = rows[i];
+			if (row >= from && row <= to) { continue; }
+
+			keys[w] = keys[i];
+			rows[w++] = (row > to) ? row - shift : row;
+		}
+		for (int i = w; i < count; i++) { keys[i] = null; }
+		count = w;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a binary record in a <code>ByteBuffer</code>.
+ * A codec is used by the lists which store their elements outside from the
+ * java heap, for example <code>OffHeapArrayListLight</code>.<p>
+ * 
+ * The methods must only use absolute <code>get</code> and <code>put</code>
+ * operations, the position and limit of the buffer must not be changed.
+ * 
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @param <E> the type of the elements.
+ */
+public interface RecordCodecLight<E> {
+	
+	/**
+	 * Returns the number of bytes from one record. All records which are
+	 * encoded with this codec have the same size.
+	 * 
+	 * @return the size from one record in bytes.
+	 */
+	public int getRecordSize();
+	
+	/**
+	 * Decodes the record which starts at <code>offset</code> in the buffer.
+	 * 
+	 * @param buffer the buffer which contains the record.
+	 * @param offset the start from the record in the buffer.
+	 * @param length the length from the record in bytes.
+	 * @return the decoded element.
+	 */
+	public E decode(final ByteBuffer buffer, final int offset, final int length);
+	
+	/**
+	 * Encodes the element into the buffer, starting at <code>offset</code>.
+	 * Exactly <code>getRecordSize()</code> bytes must be written.
+	 * 
+	 * @param element the element which should be encoded.
+	 * @param buffer the buffer in which the record is written.
+	 * @param offset the start from the record in the buffer.
+	 */
+	public void encode(final E element, final ByteBuffer buffer, final int offset);
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Bounded implementation of the <code>List</code> interface which stores
+ * its elements in a circular buffer with a fixed capacity. When the list is
+ * full, appending a new element evicts the oldest element (the element at
+ * index 0). Appending and evicting cost <code>O(1)</code>, no element is
+ * shifted.<p>
+ *
+ * The list is intended for live views, which show the latest N entries
+ * from a log or another stream. With <code>ListModelLight</code> every
+ * batch which is appended with <code>add(Object[])</code> is reported with
+ * one <code>intervalRemoved</code> event for the evicted entries and one
+ * <code>intervalAdded</code> event for the new ones:
+ * <pre>
+ * final ListModelLight model = ListModelLight.forList(new RingBufferListLight&lt;Object&gt;(100000));
+ * </pre>
+ *
+ * A full list only supports appending, <code>add(int, E)</code> throws
+ * an <code>IllegalStateException</code> then.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ */
+public class RingBufferListLight<E> extends AbstractList<E> implements List<E>,
+		RandomAccess {
+
+	private final Object[] elementData;
+
+	/**
+	 * The physical index from the oldest element.
+	 */
+	private int head = 0;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+	private int size = 0;
+
+	/**
+	 * Constructs an empty list which can store <code>capacity</code>
+	 * elements.
+	 *
+	 * @param capacity the maximal number of elements.
+	 * @exception IllegalArgumentException if the capacity isn't positive.
+	 */
+	public RingBufferListLight(final int capacity) {
+
+		super();
+	    if (capacity <= 0) {
+	    	throw new IllegalArgumentException(
+	    			"Illegal Capacity: " + capacity);
+	    }
+
+	    elementData = new Object[capacity];
+	}
+
+    /**
+     * Appends the specified element to the end of this list. If the list is
+     * full, the oldest element is evicted.
+     *
+     * @param o element to be appended to this list.
+     * @return <code>true</code> (as per the general contract of Collection.add()).
+     */
+	@Override
+	public final boolean add(final E o) {
+
+		modCount++;
+		if (size == elementData.length) {
+
+			elementData[head] = o;
+			head = this.next(head, 1);
+		}
+		else {
+
+			elementData[this.next(head, size)] = o;
+			size++;
+		}
+
+		return Boolean.TRUE;
+	}
+
+    /**
+	 * Inserts the specified element at the specified position in this list.
+	 * Shifts the elements on the shorter side of <code>index</code>.
+	 *
+	 * @param index index at which the specified element is to be inserted.
+	 * @param element element to be inserted.
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 *             <code>(index &lt; 0 || index &gt; size())</code>.
+	 * @throws IllegalStateException if the list is full.
+	 */
+	@Override
+	public final void add(final int index, final E element) {
+
+		if (index > size || index < 0) {
+
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size
+					);
+		}
+		if (size == elementData.length) {
+			throw new IllegalStateException("The list is full.");
+		}
+
+		modCount++;
+		if (index < size - index) {
+
+			head = this.next(head, elementData.length - 1);
+			for (int i = 0; i < index; i++) {
+				elementData[this.next(head, i)] = elementData[this.next(head, i + 1)];
+			}
+		}
+		else {
+
+			for (int i = size; i > index; i--) {
+				elementData[this.next(head, i)] = elementData[this.next(head, i - 1)];
+			}
+		}
+		elementData[this.next(head, index)] = element;
+		size++;
+	}
+
+	/**
+	 * Appends all of the elements in the specified array to the end of this
+	 * list. If the list overflows, the oldest elements are evicted. If the
+	 * array contains more elements than the capacity, only the last
+	 * elements from the array are kept.
+	 *
+	 * @param elements elements to be appended to this list.
+	 * @return the number of elements which were in this list before the call
+	 *         and were evicted.
+	 */
+	public final int addAll(final E[] elements) {
+
+		modCount++;
+		final int capacity = elementData.length;
+		final int numNew = elements.length;
+		if (numNew >= capacity) {
+
+			final int evicted = size;
+			System.arraycopy(elements, numNew - capacity, elementData, 0, capacity);
+			head = 0;
+			size = capacity;
+
+			return evicted;
+		}
+
+		final int evicted = Math.max(0, size + numNew - capacity);
+		final int tail = this.next(head, size);
+		final int first = Math.min(numNew, capacity - tail);
+		System.arraycopy(elements, 0, elementData, tail, first);
+		System.arraycopy(elements, first, elementData, 0, numNew - first);
+		head = this.next(head, evicted);
+		size += numNew - evicted;
+
+		return evicted;
+	}
+
+    /**
+     * Removes all of the elements from this list. The list will
+     * be empty after this call returns.
+     */
+	@Override
+	public void clear() {
+
+		modCount++;
+		Arrays.fill(elementData, null);
+		head = 0;
+		size = 0;
+	}
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws  IndexOutOfBoundsException if index is out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final E get(final int index) {
+
+		this.rangeCheck(index);
+
+		return (E) elementData[this.next(head, index)];
+	}
+
+	/**
+	 * Returns the maximal number of elements in this list.
+	 *
+	 * @return the capacity of this list.
+	 */
+	public int getLength() { return elementData.length; }
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return the number of elements.
+	 */
+	public int getSize() { return size; }
+
+	/**
+	 * Returns <code>true</code> if the next append will evict the oldest
+	 * element.
+	 *
+	 * @return <code>true</code> if this list is full.
+	 */
+	public boolean isFull() { return size == elementData.length; }
+
+	/**
+	 * Returns the physical index which is <code>distance</code> slots behind
+	 * the physical index <code>index</code>.
+	 */
+	private int next(final int index, final int distance) {
+
+		final int i = index + distance;
+
+		return (i >= elementData.length) ? i - elementData.length : i;
+	}
+
+    /**
+     * Check if the given index is in range. If not, throw an appropriate
+     * runtime exception.
+     */
+	private void rangeCheck(final int index) {
+
+		if (index >= size || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ size
+		    		);
+		}
+	}
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts the elements on the shorter side of <code>index</code>, so
+     * removing the oldest element costs <code>O(1)</code>.
+     *
+     * @param index the index of the element to removed.
+     * @return the element that was removed from the list.
+     * @throws  IndexOutOfBoundsException if index out of range <code>(index
+     * 		  &lt; 0 || index &gt;= size())</code>.
+     */
+	@Override
+	public final E remove(final int index) {
+
+		final E oldValue = this.get(index);
+
+		modCount++;
+		if (index < size - index) {
+
+			for (int i = index; i > 0; i--) {
+				elementData[this.next(head, i)] = elementData[this.next(head, i - 1)];
+			}
+			elementData[head] = null;
+			head = this.next(head, 1);
+		}
+		else {
+
+			for (int i = index; i < size - 1; i++) {
+				elementData[this.next(head, i)] = elementData[this.next(head, i + 1)];
+			}
+			elementData[this.next(head, size - 1)] = null;
+		}
+		size--;
+
+		return oldValue;
+	}
+
+	/**
+	 * Removes the elements from <code>fromIndex</code> (inclusive) to
+	 * <code>toIndex</code> (exclusive). Removing from the begin of the list
+	 * only moves the head.
+	 */
+	@Override
+	protected void removeRange(final int fromIndex, final int toIndex) {
+
+		if (fromIndex != 0) {
+
+			super.removeRange(fromIndex, toIndex);
+			return;
+		}
+
+		modCount++;
+		for (int i = 0; i < toIndex; i++) { elementData[this.next(head, i)] = null; }
+		head = this.next(head, toIndex);
+		size -= toIndex;
+	}
+
+	/**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if index out of range
+     *		  <code>(index &lt; 0 || index &gt;= size())</code>.
+     */
+	public final E replace(final int index, final E element) {
+
+		final E oldValue = this.get(index);
+		elementData[this.next(head, index)] = element;
+
+		return oldValue;
+	}
+
+	@Override
+	public final E set(final int index, final E element) {
+
+		return this.replace(index, element);
+	}
+
+	@Override
+	public int size() { return size; }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A read-only view of a range of an array which is never changed again.<p>
+ *
+ * The thread-safe lists answer their queries (search, list iterator, sub
+ * list, <code>equals</code>) with this view of one published version, so a
+ * reader never sees two versions mixed and never gets a
+ * <code>ConcurrentModificationException</code>.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ConcurrentArrayListLight
+ * @see CopyOnWriteArrayListLight
+ */
+final class SnapshotListLight<E> extends AbstractList<E> implements RandomAccess {
+
+	private final Object[] elementData;
+	private final int from;
+	private final int to;
+
+	/**
+	 * Creates a view of the elements in <code>[from, to)</code>. The array
+	 * must not be changed in this range.
+	 */
+	SnapshotListLight(final Object[] elementData, final int from, final int to) {
+
+		super();
+
+		this.elementData = elementData;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	public boolean contains(final Object o) { return this.indexOf(o) >= 0; }
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(final int index) {
+
+		if (index >= to - from || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ (to - from)
+		    		);
+		}
+
+		return (E) elementData[from + index];
+	}
+
+	@Override
+	public int indexOf(final Object o) {
+
+		if (o == null) {
+			for (int i = from; i < to; i++) {
+				if (elementData[i] == null) { return i - from; }
+			}
+		}
+		else {
+			for (int i = from; i < to; i++) {
+				if (o.equals(elementData[i])) { return i - from; }
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(final Object o) {
+
+		if (o == null) {
+			for (int i = to - 1; i >= from; i--) {
+				if (elementData[i] == null) { return i - from; }
+			}
+		}
+		else {
+			for (int i = to - 1; i >= from; i--) {
+				if (o.equals(elementData[i])) { return i - from; }
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public int size() { return to - from; }
+
+	@Override
+	public Spliterator<E> spliterator() {
+
+		return Spliterators.spliterator(elementData, from, to,
+				Spliterator.IMMUTABLE | Spliterator.ORDERED);
+	}
+
+	@Override
+	public SnapshotListLight<E> subList(final int fromIndex, final int toIndex) {
+
+		if (fromIndex < 0) {
+			throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+		}
+		if (toIndex > to - from) {
+			throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+		}
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException(
+					"fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+
+		return new SnapshotListLight<E>(elementData, from + fromIndex, from + toIndex);
+	}
+
+	@Override
+	public Object[] toArray() { return Arrays.copyOfRange(elementData, from, to); }
+}
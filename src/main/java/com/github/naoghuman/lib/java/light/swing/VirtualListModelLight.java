@@ -0,0 +1,441 @@
+/*
+ * Copyright (C) 17.10.2026 | Naoghuman (Peter Rogge) | peter.rogge@yahoo.de
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.naoghuman.lib.java.light.swing;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * A read-only <code>ListModel</code> which knows the number of rows up
+ * front, but loads the rows page by page from a
+ * <code>ListDataProviderLight</code> when they are requested. So a list can
+ * show data sets which are much larger than the memory.<p>
+ *
+ * <code>getElementAt(int)</code> never blocks. If the page of the row isn't
+ * loaded yet, a placeholder is returned and the page is loaded on a
+ * background thread. When the page arrives, the listeners are informed
+ * with one <code>contentsChanged</code> event for exactly the rows of the
+ * page, so a <code>JList</code> repaints them. The pages ahead of the
+ * scroll direction are loaded in advance, the direction follows the first
+ * visible row (see {@link #setVisibleRange(int, int)}). Only the last
+ * recently used pages are kept in memory. A page which couldn't be loaded
+ * is requested again after a delay, which doubles with every failure.<p>
+ *
+ * All methods must be called on the event dispatch thread. A list which
+ * shows this model should use a fixed cell height and width (like
+ * <code>ListLight</code> does), otherwise the <code>JList</code> measures
+ * every row and loads all pages.<p>
+ *
+ * If the model isn't needed anymore, <code>close()</code> should be called
+ * to stop the background thread.
+ *
+ * @author Naoghuman (Peter Rogge) | Copyright (c) | 17.10.2026
+ * @version 1.0
+ * @see ListDataProviderLight
+ */
+public final class VirtualListModelLight extends AbstractListModel implements Closeable {
+
+	private static final long serialVersionUID = -3167405582374421985L;
+
+	/**
+	 * The delay in milliseconds before a failed page is requested again,
+	 * doubled with every further failure up to <code>MAX_RETRY_DELAY</code>.
+	 */
+	private static final int RETRY_DELAY = 1000;
+	private static final int MAX_RETRY_DELAY = 30000;
+
+	/**
+	 * The number of failed requests of a page and the time when the page
+	 * may be requested again.
+	 */
+	private static final class Failure {
+
+		private int count = 0;
+		private long retryTime = 0L;
+	}
+
+	private final transient ListDataProviderLight provider;
+	private final transient ExecutorService executor;
+	private final boolean ownExecutor;
+
+	private final int pageSize;
+	private final int prefetchPages;
+
+	/**
+	 * The loaded pages in access order, the eldest page is evicted.
+	 */
+	private final LinkedHashMap<Integer, Object[]> pages;
+
+	/**
+	 * The pages which are currently loaded on the background thread.
+	 */
+	private final Set<Integer> loadingPages = new HashSet<Integer>();
+
+	/**
+	 * The pages which couldn't be loaded.
+	 */
+	private final Map<Integer, Failure> failedPages = new HashMap<Integer, Failure>();
+
+	/**
+	 * Is increased with every refresh, so pages from an older request are
+	 * dropped.
+	 */
+	private int generation = 0;
+
+	private int direction = 1;
+	private int firstVisibleIndex = -1;
+	private int previousIndex = -1;
+	private int size = 0;
+
+	private boolean visibleRangeReported = Boolean.FALSE;
+
+	private Object placeholder = "...";
+
+	/**
+	 * Creates a model with an own background thread, which loads
+	 * <code>pageSize</code> rows per request and keeps at most
+	 * <code>maxPages</code> pages in memory. One page ahead of the scroll
+	 * direction is loaded in advance.
+	 *
+	 * @param provider the provider of the rows.
+	 * @param pageSize the number of rows per page.
+	 * @param maxPages the maximal number of pages in memory.
+	 */
+	public VirtualListModelLight(
+			final ListDataProviderLight provider, final int pageSize, final int maxPages
+	) {
+		this(provider, pageSize, maxPages, 1, Executors.newSingleThreadExecutor(
+				new ThreadFactory() {
+
+					@Override
+					public Thread newThread(final Runnable runnable) {
+
+						final Thread thread = new Thread(runnable, "VirtualListModelLight");
+						thread.setDaemon(Boolean.TRUE);
+
+						return thread;
+					}
+				}), Boolean.TRUE);
+	}
+
+	/**
+	 * Creates a model which loads the pages with the specified executor.
+	 * The executor isn't shut down by <code>close()</code>.
+	 *
+	 * @param provider the provider of the rows.
+	 * @param pageSize the number of rows per page.
+	 * @param maxPages the maximal number of pages in memory, should be
+	 *        greater than the number of visible pages plus
+	 *        <code>prefetchPages</code>.
+	 * @param prefetchPages the number of pages which are loaded ahead of
+	 *        the scroll direction.
+	 * @param executor the executor which loads the pages.
+	 */
+	public VirtualListModelLight(
+			final ListDataProviderLight provider, final int pageSize, final int maxPages,
+			final int prefetchPages, final ExecutorService executor
+	) {
+		this(provider, pageSize, maxPages, prefetchPages, executor, Boolean.FALSE);
+	}
+
+	private VirtualListModelLight(
+			final ListDataProviderLight provider, final int pageSize, final int maxPages,
+			final int prefetchPages, final ExecutorService executor, final boolean ownExecutor
+	) {
+		super();
+		if (pageSize <= 0 || maxPages <= 0 || prefetchPages < 0) {
+			throw new IllegalArgumentException(
+					"Illegal page size: " + pageSize + ", max pages: " + maxPages
+					+ ", prefetch pages: " + prefetchPages);
+		}
+
+		this.provider = provider;
+		this.pageSize = pageSize;
+		this.prefetchPages = prefetchPages;
+		this.executor = executor;
+		this.ownExecutor = ownExecutor;
+
+		pages = new LinkedHashMap<Integer, Object[]>(16, 0.75f, Boolean.TRUE) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Integer, Object[]> eldest) {
+
+				return this.size() > maxPages;
+			}
+		};
+		size = provider.getSize();
+	}
+
+	/**
+	 * Stops the own background thread. An executor which was passed to
+	 * the constructor isn't shut down.
+	 */
+	@Override
+	public void close() {
+
+		if (ownExecutor) { executor.shutdownNow(); }
+	}
+
+	/**
+	 * Returns the row at the specified index or the placeholder, if the row
+	 * isn't loaded yet. This method never blocks.
+	 *
+	 * @param index the index of the row.
+	 * @return the row or the placeholder.
+	 */
+	@Override
+	public Object getElementAt(final int index) {
+
+		if (index >= size || index < 0) {
+
+		    throw new IndexOutOfBoundsException(
+		    		"Index: " + index + ", Size: "+ size
+		    		);
+		}
+
+		final int page = index / pageSize;
+		final Object[] rows = pages.get(page);
+		this.request(page);
+		if (!visibleRangeReported) {
+
+			// A paint requests the rows in ascending order, so a row which
+			// doesn't follow the previous one is the first row of a paint.
+			if (index != previousIndex + 1) { this.moveFirstVisibleIndex(index); }
+			previousIndex = index;
+
+			for (int i = 1; i <= prefetchPages; i++) { this.request(page + i * direction); }
+		}
+
+		final int offset = index - page * pageSize;
+
+		return (rows != null && offset < rows.length) ? rows[offset] : placeholder;
+	}
+
+	/**
+	 * Returns the object which is shown for rows which aren't loaded yet.
+	 *
+	 * @return the placeholder.
+	 */
+	public Object getPlaceholder() { return placeholder; }
+
+	@Override
+	public int getSize() { return size; }
+
+	/**
+	 * Returns <code>true</code> if the row at the specified index is loaded.
+	 *
+	 * @param index the index of the row.
+	 * @return <code>true</code> if the row is loaded.
+	 */
+	public boolean isLoaded(final int index) {
+
+		return pages.containsKey(index / pageSize);
+	}
+
+	/**
+	 * Derives the scroll direction from the movement of the first visible
+	 * row.
+	 */
+	private void moveFirstVisibleIndex(final int index) {
+
+		if (firstVisibleIndex >= 0 && index != firstVisibleIndex) {
+			direction = (index > firstVisibleIndex) ? 1 : -1;
+		}
+		firstVisibleIndex = index;
+	}
+
+	/**
+	 * Drops all loaded pages and reads the number of rows again from the
+	 * provider. The listeners are informed about the changed size and that
+	 * all rows are changed, the visible rows are loaded again.
+	 */
+	public void refresh() {
+
+		generation++;
+		pages.clear();
+		loadingPages.clear();
+		failedPages.clear();
+
+		final int oldSize = size;
+		size = provider.getSize();
+		if (size < oldSize) {
+			super.fireIntervalRemoved(this, size, oldSize - 1);
+		}
+		else if (size > oldSize) {
+			super.fireIntervalAdded(this, oldSize, size - 1);
+		}
+		if (Math.min(size, oldSize) > 0) {
+			super.fireContentsChanged(this, 0, Math.min(size, oldSize) - 1);
+		}
+	}
+
+	/**
+	 * Loads the page on the background thread, if it isn't loaded and not
+	 * requested yet. A failed page is only requested again after its retry
+	 * delay.
+	 */
+	private void request(final int page) {
+
+		final int fromIndex = page * pageSize;
+		if (page < 0 || fromIndex >= size) { return; }
+		if (pages.containsKey(page) || loadingPages.contains(page)) { return; }
+
+		final Failure failure = failedPages.get(page);
+		if (failure != null && System.currentTimeMillis() < failure.retryTime) { return; }
+
+		loadingPages.add(page);
+
+		final int count = Math.min(pageSize, size - fromIndex);
+		final int requestGeneration = generation;
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+
+					Object[] loaded = null;
+					try {
+						loaded = provider.load(fromIndex, count);
+					} finally {
+						VirtualListModelLight.this.deliver(page, requestGeneration, loaded);
+					}
+				}
+			});
+		} catch (final RejectedExecutionException e) {
+			loadingPages.remove(page);
+		}
+	}
+
+	/**
+	 * Records the failed page and repaints its rows after the retry delay,
+	 * so the rows which are still visible request the page again.
+	 */
+	private void fail(final int page) {
+
+		Failure failure = failedPages.get(page);
+		if (failure == null) {
+
+			failure = new Failure();
+			failedPages.put(page, failure);
+		}
+
+		final int delay = (int) Math.min((long) RETRY_DELAY << Math.min(failure.count, 16), MAX_RETRY_DELAY);
+		failure.count++;
+		failure.retryTime = System.currentTimeMillis() + delay;
+
+		final int requestGeneration = generation;
+		final Timer timer = new Timer(delay, new ActionListener() {
+
+			@Override
+			public void actionPerformed(final ActionEvent e) {
+
+				final int fromIndex = page * pageSize;
+				final int toIndex = Math.min(fromIndex + pageSize, size) - 1;
+				if (requestGeneration != generation || toIndex < fromIndex) { return; }
+
+				VirtualListModelLight.this.fireContentsChanged(
+						VirtualListModelLight.this, fromIndex, toIndex);
+			}
+		});
+		timer.setRepeats(Boolean.FALSE);
+		timer.start();
+	}
+
+	/**
+	 * Stores the loaded page on the event dispatch thread and informs the
+	 * listeners about exactly the rows of the page. If loading failed
+	 * (<code>rows == null</code>) the failure is recorded with its retry
+	 * delay.
+	 */
+	private void deliver(final int page, final int requestGeneration, final Object[] rows) {
+
+		SwingUtilities.invokeLater(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (requestGeneration != generation) { return; }
+
+				loadingPages.remove(page);
+				if (rows == null) {
+
+					VirtualListModelLight.this.fail(page);
+					return;
+				}
+
+				final int fromIndex = page * pageSize;
+				final int toIndex = Math.min(fromIndex + rows.length, size) - 1;
+				failedPages.remove(page);
+				pages.put(page, rows);
+				if (toIndex >= fromIndex) {
+					VirtualListModelLight.this.fireContentsChanged(
+							VirtualListModelLight.this, fromIndex, toIndex);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets the object which is shown for rows which aren't loaded yet.
+	 *
+	 * @param placeholder the placeholder.
+	 */
+	public void setPlaceholder(final Object placeholder) { this.placeholder = placeholder; }
+
+	/**
+	 * Informs the model about the visible rows, for example before the list
+	 * is painted (<code>ListLight</code> does this). The pages of the rows
+	 * are requested and the scroll direction follows the movement of the
+	 * first visible row, so repaints of single rows don't change it.<p>
+	 *
+	 * If this method is never called, the direction is derived from the
+	 * first row which is requested by every paint.
+	 *
+	 * @param firstIndex the index of the first visible row or -1.
+	 * @param lastIndex the index of the last visible row or -1.
+	 */
+	public void setVisibleRange(final int firstIndex, final int lastIndex) {
+
+		visibleRangeReported = Boolean.TRUE;
+		if (firstIndex < 0 || lastIndex < firstIndex || firstIndex >= size) { return; }
+
+		this.moveFirstVisibleIndex(firstIndex);
+
+		final int firstPage = firstIndex / pageSize;
+		final int lastPage = Math.min(lastIndex, size - 1) / pageSize;
+		for (int page = firstPage; page <= lastPage; page++) { this.request(page); }
+		for (int i = 1; i <= prefetchPages; i++) {
+			this.request((direction > 0) ? lastPage + i : firstPage - i);
+		}
+	}
+}